@@ -1,12 +1,22 @@
 package com.team.backend;
 
+import com.team.backend.config.AiCircuitBreakerProperties;
+import com.team.backend.config.CacheSpecProperties;
 import com.team.backend.config.DefaultLocationConfig;
+import com.team.backend.config.WeatherPrefetchProperties;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
-@EnableConfigurationProperties(DefaultLocationConfig.class)
+@EnableScheduling
+@EnableConfigurationProperties({
+        DefaultLocationConfig.class,
+        AiCircuitBreakerProperties.class,
+        WeatherPrefetchProperties.class,
+        CacheSpecProperties.class
+})
 public class BackendApplication {
     public static void main(String[] args) {
         SpringApplication.run(BackendApplication.class, args);
@@ -7,11 +7,13 @@ import com.team.backend.api.dto.admin.dashboard.DashboardOverviewResponseDto;
 import com.team.backend.common.time.TimeRanges;
 import com.team.backend.service.admin.DashboardMonthlyAdminService;
 import com.team.backend.service.admin.DashboardOverviewAdminService;
+import com.team.backend.service.admin.DistinctUserCounter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.time.YearMonth;
@@ -33,12 +35,14 @@ public class AdminDashboardController {
      * - from: inclusive (YYYY-MM-DD)
      * - to:   inclusive (YYYY-MM-DD)
      * - 내부 집계는 [from, to+1day)로 처리 (KST 기준)
+     * - uniqueMode: EXACT | APPROX (HLL) — 생략 시 admin.distinct.mode
      */
     @GetMapping("/overview")
     public ApiResponse<DashboardOverviewResponseDto> overview(
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
             @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
-            @RequestParam(defaultValue = "" + DEFAULT_TOP_N) int topN
+            @RequestParam(defaultValue = "" + DEFAULT_TOP_N) int topN,
+            @RequestParam(required = false) DistinctUserCounter.Mode uniqueMode
     ) {
         if (from == null || to == null) throw new IllegalArgumentException("from/to는 필수입니다.");
         if (from.isAfter(to)) throw new IllegalArgumentException("from은 to보다 클 수 없습니다.");
@@ -46,9 +50,12 @@ public class AdminDashboardController {
         int resolvedTopN = clamp(topN, MIN_TOP_N, MAX_TOP_N);
 
         // ✅ to inclusive → service에서 toExclusive로 변환하는 방식(권장)
-        return ApiResponse.success(dashboardOverviewAdminService.getOverview(from, to, resolvedTopN));
+        return ApiResponse.success(dashboardOverviewAdminService.getOverview(from, to, resolvedTopN, uniqueMode));
     }
 
+    /**
+     * monthly: 스냅샷 조회만 (uniqueUsers 집계 방식은 스냅샷 생성 시 admin.distinct.mode)
+     */
     @GetMapping("/monthly")
     public ApiResponse<DashboardMonthlyResponseDto> monthly(
             @RequestParam String fromMonth,
@@ -64,8 +71,11 @@ public class AdminDashboardController {
         return ApiResponse.success(dashboardMonthlyAdminService.getMonthly(fromYm, toYm, resolvedTopN));
     }
 
+    /**
+     * monthly excel: 응답 body로 바로 스트리밍 (admin.monthly.excel.streaming=false면 기존 in-memory 방식)
+     */
     @GetMapping("/monthly/excel")
-    public ResponseEntity<byte[]> monthlyExcel(
+    public ResponseEntity<StreamingResponseBody> monthlyExcel(
             @RequestParam String fromMonth,
             @RequestParam String toMonth,
             @RequestParam(defaultValue = "" + DEFAULT_TOP_N) int topN
@@ -76,12 +86,13 @@ public class AdminDashboardController {
         if (fromYm.isAfter(toYm)) throw new IllegalArgumentException("fromMonth는 toMonth보다 클 수 없습니다.");
         int resolvedTopN = clamp(topN, MIN_TOP_N, MAX_TOP_N);
 
-        var export = dashboardMonthlyAdminService.exportMonthlyExcel(fromYm, toYm, resolvedTopN);
+        String filename = dashboardMonthlyAdminService.monthlyExcelFilename(fromYm, toYm);
+        StreamingResponseBody body = out -> dashboardMonthlyAdminService.writeMonthlyExcel(fromYm, toYm, resolvedTopN, out);
 
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + export.filename() + "\"")
-                .header(HttpHeaders.CONTENT_TYPE, export.contentType())
-                .body(export.bytes());
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"")
+                .header(HttpHeaders.CONTENT_TYPE, DashboardMonthlyAdminService.XLSX_CONTENT_TYPE)
+                .body(body);
     }
 
     private static int clamp(int v, int min, int max) {
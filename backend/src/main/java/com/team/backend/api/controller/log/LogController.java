@@ -3,13 +3,18 @@ package com.team.backend.api.controller.log;
 
 import com.team.backend.api.dto.ApiResponse;
 import com.team.backend.api.dto.log.ItemClickLogCreateRequestDto;
+import com.team.backend.api.dto.log.LogBatchIngestResponseDto;
 import com.team.backend.api.dto.log.SessionLogRequestDto;
 import com.team.backend.service.log.ItemClickLogService;
+import com.team.backend.service.log.LogBatchIngestService;
 import com.team.backend.service.log.SessionLogService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/logs")
@@ -19,9 +24,12 @@ public class LogController {
 
     private static final String PATH_CLICK = "/click";
     private static final String PATH_SESSION = "/session";
+    private static final String PATH_CLICK_BATCH = "/click/batch";
+    private static final String PATH_SESSION_BATCH = "/session/batch";
 
     private final ItemClickLogService itemClickLogService;
     private final SessionLogService sessionLogService;
+    private final LogBatchIngestService batchIngestService;
 
     @PostMapping(PATH_CLICK)
     public ApiResponse<Void> logClick(
@@ -42,4 +50,42 @@ public class LogController {
         sessionLogService.write(request);
         return ApiResponse.success("세션 로그가 저장되었습니다.", null);
     }
+
+    /**
+     * 클릭 로그 batch (JSON 배열) - 이벤트별 결과는 data.results
+     */
+    @PostMapping(value = PATH_CLICK_BATCH, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<LogBatchIngestResponseDto> logClickBatch(
+            @RequestBody List<ItemClickLogCreateRequestDto> events,
+            @RequestHeader(value = SESSION_KEY_HEADER, required = false) String sessionKeyHeader
+    ) {
+        return ApiResponse.success(batchIngestService.ingestClicks(events, sessionKeyHeader));
+    }
+
+    /**
+     * 클릭 로그 batch (NDJSON: 한 줄에 이벤트 1개)
+     */
+    @PostMapping(value = PATH_CLICK_BATCH, consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ApiResponse<LogBatchIngestResponseDto> logClickBatchNdjson(
+            @RequestBody String body,
+            @RequestHeader(value = SESSION_KEY_HEADER, required = false) String sessionKeyHeader
+    ) {
+        return ApiResponse.success(batchIngestService.ingestClicksNdjson(body, sessionKeyHeader));
+    }
+
+    @PostMapping(value = PATH_SESSION_BATCH, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<LogBatchIngestResponseDto> logSessionBatch(
+            @RequestBody List<SessionLogRequestDto> events,
+            @RequestHeader(value = SESSION_KEY_HEADER, required = false) String sessionKeyHeader
+    ) {
+        return ApiResponse.success(batchIngestService.ingestSessions(events, sessionKeyHeader));
+    }
+
+    @PostMapping(value = PATH_SESSION_BATCH, consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ApiResponse<LogBatchIngestResponseDto> logSessionBatchNdjson(
+            @RequestBody String body,
+            @RequestHeader(value = SESSION_KEY_HEADER, required = false) String sessionKeyHeader
+    ) {
+        return ApiResponse.success(batchIngestService.ingestSessionsNdjson(body, sessionKeyHeader));
+    }
 }
\ No newline at end of file
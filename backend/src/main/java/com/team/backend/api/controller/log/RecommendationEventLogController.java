@@ -2,20 +2,27 @@
 package com.team.backend.api.controller.log;
 
 import com.team.backend.api.dto.ApiResponse;
+import com.team.backend.api.dto.log.LogBatchIngestResponseDto;
 import com.team.backend.api.dto.log.RecommendationEventLogRequestDto;
+import com.team.backend.service.log.LogBatchIngestService;
 import com.team.backend.service.log.RecommendationEventLogService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/logs/reco")
 public class RecommendationEventLogController {
 
     private static final String SESSION_KEY_HEADER = "X-Session-Key";
+    private static final String PATH_BATCH = "/batch";
 
     private final RecommendationEventLogService service;
+    private final LogBatchIngestService batchIngestService;
 
     @PostMapping
     public ApiResponse<Void> write(
@@ -28,4 +35,20 @@ public class RecommendationEventLogController {
         service.write(request);
         return ApiResponse.success("추천 이벤트 로그가 저장되었습니다.", null);
     }
+
+    @PostMapping(value = PATH_BATCH, consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<LogBatchIngestResponseDto> writeBatch(
+            @RequestBody List<RecommendationEventLogRequestDto> events,
+            @RequestHeader(value = SESSION_KEY_HEADER, required = false) String sessionKeyHeader
+    ) {
+        return ApiResponse.success(batchIngestService.ingestRecoEvents(events, sessionKeyHeader));
+    }
+
+    @PostMapping(value = PATH_BATCH, consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ApiResponse<LogBatchIngestResponseDto> writeBatchNdjson(
+            @RequestBody String body,
+            @RequestHeader(value = SESSION_KEY_HEADER, required = false) String sessionKeyHeader
+    ) {
+        return ApiResponse.success(batchIngestService.ingestRecoEventsNdjson(body, sessionKeyHeader));
+    }
 }
\ No newline at end of file
@@ -57,6 +57,14 @@ public record DashboardOverviewResponseDto(
             double d1RetentionRate        // 0~100
     ) {}
 
+    /** Dk retention (eligible: f+k일이 이미 지난 cohort user만) */
+    public record RetentionSummary(
+            int days,                     // 1, 7, 30 ...
+            long eligibleUsers,
+            long retainedUsers,
+            double retentionRate          // 0~100
+    ) {}
+
     // -----------------------
     // Summary / Series
     // -----------------------
@@ -108,7 +116,8 @@ public record DashboardOverviewResponseDto(
             List<DailyClicks> dailyClicks,
             List<TopClickedItem> topClickedItems,
             D1RetentionSummary d1RetentionSummary,
-            List<DailyD1Retention> d1RetentionTrend
+            List<DailyD1Retention> d1RetentionTrend,
+            List<RetentionSummary> retentionSummaries
     ) {}
 
     // -----------------------
@@ -124,6 +133,22 @@ public record DashboardOverviewResponseDto(
             List<DashboardOverviewJdbcRepository.TopClickedItemRow> topClickedRow,
             D1RetentionSummary d1Summary,
             List<DailyD1Retention> d1Trend
+    ) {
+        return from(fromInclusive, toInclusive, topN, summaryRow, dailySessionsRow, dailyClicksRow, topClickedRow,
+                d1Summary, d1Trend, List.of());
+    }
+
+    public static DashboardOverviewResponseDto from(
+            LocalDate fromInclusive,
+            LocalDate toInclusive,
+            int topN,
+            DashboardOverviewJdbcRepository.SummaryRow summaryRow,
+            List<DashboardOverviewJdbcRepository.DailySessionRow> dailySessionsRow,
+            List<DashboardOverviewJdbcRepository.DailyClickRow> dailyClicksRow,
+            List<DashboardOverviewJdbcRepository.TopClickedItemRow> topClickedRow,
+            D1RetentionSummary d1Summary,
+            List<DailyD1Retention> d1Trend,
+            List<RetentionSummary> retentionSummaries
     ) {
         var f = summaryRow.getFunnel();
 
@@ -190,7 +215,8 @@ public record DashboardOverviewResponseDto(
 
         return new DashboardOverviewResponseDto(
                 new Meta(fromInclusive, toInclusive, Instant.now(), topN),
-                new Metrics(summary, dailySessions, dailyClicks, topClicked, resolvedD1Summary, resolvedD1Trend)
+                new Metrics(summary, dailySessions, dailyClicks, topClicked, resolvedD1Summary, resolvedD1Trend,
+                        (retentionSummaries == null) ? List.of() : retentionSummaries)
         );
     }
 }
\ No newline at end of file
@@ -9,6 +9,9 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
 import java.util.Set;
 
 // src/main/java/com/team/backend/api/dto/clothingItem/ClothingItemResponseDto.java
@@ -40,6 +43,33 @@ public class ClothingItemResponseDto {
     private Integer selectedCount;
 
     private boolean favorited;
+
+    public ClothingItemResponseDto withFavorited(boolean favorited) {
+        if (this.favorited == favorited) return this;
+        return new ClothingItemResponseDto(
+                id, clothingId, name,
+                category, thicknessLevel, usageType, seasons,
+                suitableMinTemp, suitableMaxTemp,
+                cottonPercentage, polyesterPercentage, etcFiberPercentage,
+                color, styleTag, imageUrl,
+                selectedCount,
+                favorited
+        );
+    }
+
+    public ClothingItemResponseDto withSelectedCount(Integer selectedCount) {
+        if (Objects.equals(this.selectedCount, selectedCount)) return this;
+        return new ClothingItemResponseDto(
+                id, clothingId, name,
+                category, thicknessLevel, usageType, seasons,
+                suitableMinTemp, suitableMaxTemp,
+                cottonPercentage, polyesterPercentage, etcFiberPercentage,
+                color, styleTag, imageUrl,
+                selectedCount,
+                favorited
+        );
+    }
+
     public static ClothingItemResponseDto from(ClothingItem e) {
         return from(e, false);
     }
@@ -52,7 +82,7 @@ public class ClothingItemResponseDto {
                 .category(e.getCategory())
                 .thicknessLevel(e.getThicknessLevel())
                 .usageType(e.getUsageType())
-                .seasons(e.getSeasons())
+                .seasons(copySeasons(e.getSeasons()))
                 .suitableMinTemp(e.getSuitableMinTemp())
                 .suitableMaxTemp(e.getSuitableMaxTemp())
                 .cottonPercentage(e.getCottonPercentage())
@@ -65,4 +95,16 @@ public class ClothingItemResponseDto {
                 .favorited(favorited)
                 .build();
     }
-}
\ No newline at end of file
+
+    /**
+     * 엔티티의 seasons(Hibernate PersistentSet)를 DTO에 그대로 두지 않고 복사
+     * - DTO는 캐시/today 스냅샷에 오래 남음 → 세션 끊긴 lazy 컬렉션 참조 방지
+     * - EnumSet → 직렬화 순서가 enum 선언 순서로 고정
+     */
+    private static Set<SeasonType> copySeasons(Set<SeasonType> seasons) {
+        if (seasons == null) return null;
+        EnumSet<SeasonType> copy = EnumSet.noneOf(SeasonType.class);
+        copy.addAll(seasons);
+        return Collections.unmodifiableSet(copy);
+    }
+}
@@ -0,0 +1,50 @@
+// src/main/java/com/team/backend/api/dto/log/LogBatchIngestResponseDto.java
+package com.team.backend.api.dto.log;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class LogBatchIngestResponseDto {
+
+    private int total;
+    private int accepted;
+    private int rejected;
+    private int failed;
+
+    // 요청 순서(index) 그대로
+    private List<EventStatus> results;
+
+    public enum Status {ACCEPTED, REJECTED, FAILED}
+
+    @Getter
+    @AllArgsConstructor
+    public static class EventStatus {
+        private int index;
+        private Status status;
+        private String message; // ACCEPTED면 null
+    }
+
+    public static LogBatchIngestResponseDto of(List<EventStatus> results) {
+        int accepted = 0, rejected = 0, failed = 0;
+        for (EventStatus r : results) {
+            switch (r.getStatus()) {
+                case ACCEPTED -> accepted++;
+                case REJECTED -> rejected++;
+                case FAILED -> failed++;
+            }
+        }
+        return LogBatchIngestResponseDto.builder()
+                .total(results.size())
+                .accepted(accepted)
+                .rejected(rejected)
+                .failed(failed)
+                .results(results)
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.team.backend.common;
 
 import com.team.backend.api.dto.ApiResponse;
 import com.team.backend.common.exception.ConflictException;
+import com.team.backend.config.AiUpstreamException;
 import com.team.backend.common.exception.NotFoundException;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.extern.slf4j.Slf4j;
@@ -54,6 +55,13 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.fail("NOT_FOUND", e.getMessage()));
     }
 
+    @ExceptionHandler(AiUpstreamException.class)
+    public ResponseEntity<ApiResponse<Void>> aiUpstream(AiUpstreamException e) {
+        log.warn("AI_UPSTREAM code={} status={} message={}", e.getCode(), e.getStatus(), e.getMessage());
+        return ResponseEntity.status(e.getStatus())
+                .body(ApiResponse.fail(e.getCode(), "AI 서버 응답이 원활하지 않습니다."));
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<Void>> internal(Exception e) {
         log.error("INTERNAL_ERROR", e);
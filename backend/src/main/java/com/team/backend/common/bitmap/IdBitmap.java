@@ -0,0 +1,110 @@
+// src/main/java/com/team/backend/common/bitmap/IdBitmap.java
+package com.team.backend.common.bitmap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 불변 id 집합 (roaring 방식 압축 bitmap)
+ * - id 상위 비트(id >>> 16)로 chunk를 나누고, chunk 안의 하위 16비트는 개수에 따라 container 선택
+ *   - ARRAY_MAX 이하: 정렬된 char[] (원소당 2바이트)
+ *   - 초과: long[1024] bitset (chunk당 8KB 고정)
+ * - contains: chunk 이진 탐색 + container 조회 (boxing 없음)
+ * - 음수 id는 지원하지 않음 (PK 전용)
+ */
+public final class IdBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITSET_WORDS = 1 << 10;
+
+    public static final IdBitmap EMPTY = new IdBitmap(new long[0], new Object[0], 0);
+
+    private final long[] keys;          // chunk key 오름차순
+    private final Object[] containers;  // char[] | long[]
+    private final int cardinality;
+
+    private IdBitmap(long[] keys, Object[] containers, int cardinality) {
+        this.keys = keys;
+        this.containers = containers;
+        this.cardinality = cardinality;
+    }
+
+    public static IdBitmap of(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) return EMPTY;
+
+        long[] sorted = ids.stream()
+                .filter(id -> id != null && id >= 0)
+                .mapToLong(Long::longValue)
+                .sorted()
+                .distinct()
+                .toArray();
+        if (sorted.length == 0) return EMPTY;
+
+        List<Long> keyList = new ArrayList<>();
+        List<Object> containerList = new ArrayList<>();
+
+        int start = 0;
+        while (start < sorted.length) {
+            long key = sorted[start] >>> 16;
+            int end = start;
+            while (end < sorted.length && (sorted[end] >>> 16) == key) end++;
+
+            int n = end - start;
+            if (n <= ARRAY_MAX) {
+                char[] lows = new char[n];
+                for (int i = 0; i < n; i++) lows[i] = (char) sorted[start + i];
+                containerList.add(lows);
+            } else {
+                long[] bits = new long[BITSET_WORDS];
+                for (int i = start; i < end; i++) {
+                    int low = (int) (sorted[i] & 0xFFFF);
+                    bits[low >>> 6] |= 1L << low;
+                }
+                containerList.add(bits);
+            }
+            keyList.add(key);
+            start = end;
+        }
+
+        long[] keys = keyList.stream().mapToLong(Long::longValue).toArray();
+        return new IdBitmap(keys, containerList.toArray(), sorted.length);
+    }
+
+    public boolean contains(long id) {
+        if (id < 0) return false;
+
+        int i = Arrays.binarySearch(keys, id >>> 16);
+        if (i < 0) return false;
+
+        int low = (int) (id & 0xFFFF);
+        Object c = containers[i];
+        if (c instanceof char[] lows) {
+            return Arrays.binarySearch(lows, (char) low) >= 0;
+        }
+        return (((long[]) c)[low >>> 6] & (1L << low)) != 0;
+    }
+
+    public int cardinality() {
+        return cardinality;
+    }
+
+    public boolean isEmpty() {
+        return cardinality == 0;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IdBitmap other)) return false;
+        return cardinality == other.cardinality
+                && Arrays.equals(keys, other.keys)
+                && Arrays.deepEquals(containers, other.containers);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Arrays.hashCode(keys) + cardinality;
+    }
+}
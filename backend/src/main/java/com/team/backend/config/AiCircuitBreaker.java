@@ -0,0 +1,212 @@
+// src/main/java/com/team/backend/config/AiCircuitBreaker.java
+package com.team.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Arrays;
+
+/**
+ * AI 업스트림 circuit breaker
+ * - CLOSED    : 최근 windowSize건 중 실패율 >= threshold (minimumCalls 이상)이면 OPEN
+ * - OPEN      : openDurationMs 동안 호출 즉시 거절(tryAcquire=false) → 호출부는 바로 fallback
+ * - HALF_OPEN : permittedCallsInHalfOpen건만 시험 호출, 전부 성공하면 CLOSED / 하나라도 실패하면 다시 OPEN
+ *
+ * 성공 호출 latency를 ring buffer로 들고 있다가 pXX * multiplier로 timeout을 조정한다.
+ * (샘플이 모이기 전에는 maxTimeoutMs = ai.read-timeout-ms)
+ */
+@Slf4j
+public class AiCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final String name;
+    private final AiCircuitBreakerProperties props;
+    private final long maxTimeoutMs;
+
+    // outcome window (true = failure)
+    private final boolean[] outcomes;
+    private int outcomeIdx;
+    private int outcomeCount;
+    private int failureCount;
+
+    // latency window (ms, 성공 호출만)
+    private final long[] latencies;
+    private int latencyIdx;
+    private int latencyCount;
+
+    private State state = State.CLOSED;
+    private long openedAtMs;
+    private int halfOpenInFlight;
+    private int halfOpenSuccesses;
+
+    private volatile long adaptiveTimeoutMs;
+
+    private final Counter rejectedCounter;
+
+    public AiCircuitBreaker(String name, AiCircuitBreakerProperties props, long maxTimeoutMs, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.props = props;
+        this.maxTimeoutMs = maxTimeoutMs;
+        this.outcomes = new boolean[Math.max(1, props.getWindowSize())];
+        this.latencies = new long[Math.max(1, props.getLatencyWindowSize())];
+        this.adaptiveTimeoutMs = maxTimeoutMs;
+
+        Gauge.builder("ai.circuit.state", this, cb -> cb.state().ordinal())
+                .tag("name", name)
+                .description("0=CLOSED, 1=OPEN, 2=HALF_OPEN")
+                .register(meterRegistry);
+        Gauge.builder("ai.circuit.timeout.ms", this, AiCircuitBreaker::currentTimeoutMs)
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder("ai.circuit.failure.rate", this, AiCircuitBreaker::failureRate)
+                .tag("name", name)
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("ai.circuit.rejected")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    /**
+     * 호출 허용 여부. true를 받은 호출은 반드시 onSuccess/onFailure/onIgnored 중 하나로 끝내야 한다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (!props.isEnabled()) return true;
+
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAtMs < props.getOpenDurationMs()) {
+                rejectedCounter.increment();
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (halfOpenInFlight + halfOpenSuccesses >= props.getPermittedCallsInHalfOpen()) {
+                rejectedCounter.increment();
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess(long latencyMs) {
+        recordLatency(latencyMs);
+        if (!props.isEnabled()) return;
+
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+            halfOpenSuccesses++;
+            if (halfOpenSuccesses >= props.getPermittedCallsInHalfOpen()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        recordOutcome(false);
+    }
+
+    public synchronized void onFailure() {
+        if (!props.isEnabled()) return;
+
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        recordOutcome(true);
+
+        if (state == State.CLOSED
+                && outcomeCount >= props.getMinimumCalls()
+                && failureRate() >= props.getFailureRateThreshold()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    /**
+     * 업스트림 건강과 무관한 결과(4xx 등): 통계에 넣지 않고 half-open permit만 반납
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN) {
+            halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public long currentTimeoutMs() {
+        return adaptiveTimeoutMs;
+    }
+
+    /**
+     * 최근 성공 호출 latency의 percentile(ms). 샘플이 latencyMinSamples 미만이면 -1
+     */
+    public synchronized long latencyPercentileMs(double percentile) {
+        if (latencyCount < props.getLatencyMinSamples()) return -1;
+        return percentileOf(percentile);
+    }
+
+    private synchronized double failureRate() {
+        return outcomeCount == 0 ? 0.0 : (failureCount * 100.0 / outcomeCount);
+    }
+
+    // =========================
+    // internals (synchronized 호출 경로에서만 사용)
+    // =========================
+
+    private void recordOutcome(boolean failure) {
+        if (outcomeCount == outcomes.length) {
+            if (outcomes[outcomeIdx]) failureCount--;
+        } else {
+            outcomeCount++;
+        }
+        outcomes[outcomeIdx] = failure;
+        if (failure) failureCount++;
+        outcomeIdx = (outcomeIdx + 1) % outcomes.length;
+    }
+
+    private void recordLatency(long latencyMs) {
+        latencies[latencyIdx] = latencyMs;
+        latencyIdx = (latencyIdx + 1) % latencies.length;
+        if (latencyCount < latencies.length) latencyCount++;
+
+        if (latencyCount < props.getLatencyMinSamples()) return;
+
+        long pXX = percentileOf(props.getLatencyPercentile());
+        long timeout = (long) Math.ceil(pXX * props.getTimeoutMultiplier());
+        adaptiveTimeoutMs = Math.max(props.getMinTimeoutMs(), Math.min(timeout, maxTimeoutMs));
+    }
+
+    private long percentileOf(double percentile) {
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        int idx = (int) Math.ceil(percentile / 100.0 * latencyCount) - 1;
+        return sorted[Math.max(0, Math.min(idx, latencyCount - 1))];
+    }
+
+    private void transitionTo(State next) {
+        if (state == next) return;
+        log.warn("[AI][CIRCUIT][{}] {} -> {} failureRate={} window={}",
+                name, state, next, failureRate(), outcomeCount);
+
+        state = next;
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+
+        if (next == State.OPEN) {
+            openedAtMs = System.currentTimeMillis();
+        } else if (next == State.CLOSED) {
+            Arrays.fill(outcomes, false);
+            outcomeIdx = 0;
+            outcomeCount = 0;
+            failureCount = 0;
+        }
+    }
+}
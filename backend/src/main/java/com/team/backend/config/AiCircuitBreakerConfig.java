@@ -0,0 +1,39 @@
+// src/main/java/com/team/backend/config/AiCircuitBreakerConfig.java
+package com.team.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Slf4j
+@Configuration
+public class AiCircuitBreakerConfig {
+
+    /**
+     * /recommend/* (blend-ratio, material_ratio) 호출용
+     */
+    @Bean(name = "recommendationAiCircuitBreaker")
+    public AiCircuitBreaker recommendationAiCircuitBreaker(
+            AiCircuitBreakerProperties props,
+            MeterRegistry meterRegistry,
+            @Value("${ai.read-timeout-ms:7000}") long readTimeoutMs
+    ) {
+        log.info("[AI][CONFIG][CircuitBreaker] name=recommendation enabled={}, windowSize={}, failureRateThreshold={}, openDurationMs={}",
+                props.isEnabled(), props.getWindowSize(), props.getFailureRateThreshold(), props.getOpenDurationMs());
+        return new AiCircuitBreaker("recommendation", props, readTimeoutMs, meterRegistry);
+    }
+
+    /**
+     * /api/feedback/adaptive 호출용 (latency 분포가 달라 별도 인스턴스)
+     */
+    @Bean(name = "feedbackAiCircuitBreaker")
+    public AiCircuitBreaker feedbackAiCircuitBreaker(
+            AiCircuitBreakerProperties props,
+            MeterRegistry meterRegistry,
+            @Value("${ai.read-timeout-ms:7000}") long readTimeoutMs
+    ) {
+        return new AiCircuitBreaker("feedback", props, readTimeoutMs, meterRegistry);
+    }
+}
@@ -0,0 +1,28 @@
+package com.team.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "ai.circuit-breaker")
+public class AiCircuitBreakerProperties {
+    private boolean enabled = true;
+
+    // rolling window (최근 N건 결과 기준 에러율)
+    private int windowSize = 50;
+    private int minimumCalls = 10;
+    private double failureRateThreshold = 50.0;
+
+    // OPEN 유지 시간 → 이후 HALF_OPEN에서 시험 호출 permittedCallsInHalfOpen건
+    private long openDurationMs = 10_000;
+    private int permittedCallsInHalfOpen = 3;
+
+    // latency percentile 기반 adaptive timeout = clamp(pXX * multiplier, min, ai.read-timeout-ms)
+    private int latencyWindowSize = 200;
+    private int latencyMinSamples = 20;
+    private double latencyPercentile = 99.0;
+    private double timeoutMultiplier = 2.0;
+    private long minTimeoutMs = 1_000;
+}
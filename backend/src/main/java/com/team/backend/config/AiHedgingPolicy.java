@@ -0,0 +1,84 @@
+// src/main/java/com/team/backend/config/AiHedgingPolicy.java
+package com.team.backend.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 호출 hedging 정책 (opt-in: ai.hedging.enabled)
+ * - primary가 in-process pXX latency 안에 응답하지 않으면 같은 요청을 한 번 더 보낸다
+ * - budget: 호출 1건마다 budgetPercent/100 토큰 적립, hedge 1건당 1토큰 소모 → hedge 비율 <= budgetPercent
+ */
+@Slf4j
+@Component
+public class AiHedgingPolicy {
+
+    private static final double MAX_TOKENS = 10.0;
+
+    private final boolean enabled;
+    private final double percentile;
+    private final double budgetRatio;
+    private final long minDelayMs;
+
+    private double tokens;
+
+    private final Counter sentCounter;
+    private final Counter wonCounter;
+    private final Counter budgetExhaustedCounter;
+
+    public AiHedgingPolicy(
+            MeterRegistry meterRegistry,
+            @Value("${ai.hedging.enabled:false}") boolean enabled,
+            @Value("${ai.hedging.percentile:95}") double percentile,
+            @Value("${ai.hedging.budget-percent:5}") double budgetPercent,
+            @Value("${ai.hedging.min-delay-ms:50}") long minDelayMs
+    ) {
+        log.info("[AI][CONFIG][Hedging] enabled={}, percentile={}, budgetPercent={}, minDelayMs={}",
+                enabled, percentile, budgetPercent, minDelayMs);
+
+        this.enabled = enabled;
+        this.percentile = percentile;
+        this.budgetRatio = Math.max(0.0, budgetPercent) / 100.0;
+        this.minDelayMs = minDelayMs;
+
+        this.sentCounter = Counter.builder("ai.hedge.sent").register(meterRegistry);
+        this.wonCounter = Counter.builder("ai.hedge.won").register(meterRegistry);
+        this.budgetExhaustedCounter = Counter.builder("ai.hedge.budget.exhausted").register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * hedge 대기 시간(ms). latency 샘플이 부족하면 -1 (hedge 안 함)
+     */
+    public long hedgeDelayMs(AiCircuitBreaker breaker) {
+        long pXX = breaker.latencyPercentileMs(percentile);
+        if (pXX < 0) return -1;
+        return Math.max(minDelayMs, pXX);
+    }
+
+    /** primary 호출 1건마다 호출 → budget 적립 */
+    public synchronized void onCall() {
+        tokens = Math.min(MAX_TOKENS, tokens + budgetRatio);
+    }
+
+    /** hedge를 보내도 되는지 (budget 소모) */
+    public synchronized boolean tryAcquireHedge() {
+        if (tokens < 1.0) {
+            budgetExhaustedCounter.increment();
+            return false;
+        }
+        tokens -= 1.0;
+        sentCounter.increment();
+        return true;
+    }
+
+    public void onHedgeWon() {
+        wonCounter.increment();
+    }
+}
@@ -0,0 +1,90 @@
+// src/main/java/com/team/backend/config/CacheConfig.java
+package com.team.backend.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.List;
+
+/**
+ * Caffeine 기반 CacheManager
+ * - 캐시별 TTL / maxSize (codi.cache.specs.<name>.*)
+ * - kstDayBoundary 캐시는 다음 KST 자정에 만료 (자정 넘어 어제 예보가 남지 않도록)
+ * - recordStats → actuator가 cache.gets / cache.evictions 등으로 노출
+ * - transaction-aware: 트랜잭션 안의 put/evict는 커밋 후 반영
+ */
+@Slf4j
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+
+    private static final List<String> DECLARED = List.of(
+            CacheNames.WEEKLY_WEATHER,
+            CacheNames.FAVORITE_IDS,
+            CacheNames.CLOSET_ITEM_IDS,
+            CacheNames.CLOTHING_ITEM,
+            CacheNames.POPULAR_ITEMS,
+            CacheNames.CHECKLIST_TODAY
+    );
+
+    @Bean
+    public CacheManager cacheManager(CacheSpecProperties props) {
+        CaffeineCacheManager manager = new CaffeineCacheManager();
+        manager.setAllowNullValues(false);
+        // 빈 목록 → dynamic=false: 선언된 캐시만 사용 (오타난 캐시 이름이 무제한 캐시로 생기지 않도록)
+        manager.setCacheNames(List.of());
+
+        for (String name : DECLARED) {
+            CacheSpecProperties.Spec spec = props.getSpecs().getOrDefault(name, new CacheSpecProperties.Spec());
+            log.info("[CACHE][CONFIG] name={}, ttlSeconds={}, maxSize={}, kstDayBoundary={}",
+                    name, spec.getTtlSeconds(), spec.getMaxSize(), spec.isKstDayBoundary());
+
+            manager.registerCustomCache(name, Caffeine.newBuilder()
+                    .maximumSize(spec.getMaxSize())
+                    .expireAfter(expiry(spec))
+                    .recordStats()
+                    .build());
+        }
+        return new TransactionAwareCacheManagerProxy(manager);
+    }
+
+    private static Expiry<Object, Object> expiry(CacheSpecProperties.Spec spec) {
+        long ttlNanos = Duration.ofSeconds(spec.getTtlSeconds()).toNanos();
+        boolean dayBoundary = spec.isKstDayBoundary();
+
+        return new Expiry<>() {
+            @Override
+            public long expireAfterCreate(Object key, Object value, long currentTime) {
+                return dayBoundary ? Math.min(ttlNanos, nanosUntilKstMidnight()) : ttlNanos;
+            }
+
+            @Override
+            public long expireAfterUpdate(Object key, Object value, long currentTime, long currentDuration) {
+                return expireAfterCreate(key, value, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(Object key, Object value, long currentTime, long currentDuration) {
+                return currentDuration;
+            }
+        };
+    }
+
+    private static long nanosUntilKstMidnight() {
+        ZonedDateTime now = ZonedDateTime.now(KST_ZONE);
+        ZonedDateTime midnight = now.toLocalDate().plusDays(1).atStartOfDay(KST_ZONE);
+        return Math.max(1, Duration.between(now, midnight).toNanos());
+    }
+}
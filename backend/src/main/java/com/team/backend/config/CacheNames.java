@@ -0,0 +1,17 @@
+package com.team.backend.config;
+
+/**
+ * @Cacheable 캐시 이름 (CacheConfig에서 TTL/maxSize를 선언한 캐시만 사용)
+ */
+public final class CacheNames {
+
+    public static final String WEEKLY_WEATHER = "weeklyWeather";
+    public static final String FAVORITE_IDS = "favoriteIds";
+    public static final String CLOSET_ITEM_IDS = "closetItemIds";
+    public static final String CLOTHING_ITEM = "clothingItem";
+    public static final String POPULAR_ITEMS = "popularItems";
+    public static final String CHECKLIST_TODAY = "checklistToday";
+
+    private CacheNames() {
+    }
+}
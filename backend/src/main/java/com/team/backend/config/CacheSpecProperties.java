@@ -0,0 +1,26 @@
+package com.team.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "codi.cache")
+public class CacheSpecProperties {
+
+    // cacheName -> spec (미선언 캐시는 동적 생성하지 않음)
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Spec {
+        private long ttlSeconds = 600;
+        private long maxSize = 10_000;
+        // true면 TTL과 관계없이 다음 KST 자정에 만료
+        private boolean kstDayBoundary = false;
+    }
+}
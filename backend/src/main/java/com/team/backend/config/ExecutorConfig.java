@@ -0,0 +1,102 @@
+// src/main/java/com/team/backend/config/ExecutorConfig.java
+package com.team.backend.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Slf4j
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * AI 스코어링 fan-out 전용 풀
+     * - (modelType x category) 호출을 동시에 던지기 위한 bounded executor
+     * - 큐가 가득 차면 AbortPolicy → 호출부에서 RejectedExecutionException을 잡아 fallback 처리
+     * - Java 17 기준이라 virtual thread 대신 고정 크기 platform thread 풀 사용
+     */
+    @Bean(name = "aiScoringExecutor")
+    public ThreadPoolTaskExecutor aiScoringExecutor(
+            @Value("${ai.scoring.pool-size:16}") int poolSize,
+            @Value("${ai.scoring.queue-capacity:64}") int queueCapacity
+    ) {
+        log.info("[AI][CONFIG][ScoringExecutor] poolSize={}, queueCapacity={}", poolSize, queueCapacity);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("ai-scoring-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * AI hedging 전용 풀 (primary + hedge 요청을 동시에 들고 있기 위한 풀)
+     * - 가득 차면 호출부에서 hedge 없이 단건 호출로 진행
+     */
+    @Bean(name = "aiHedgeExecutor")
+    public ThreadPoolTaskExecutor aiHedgeExecutor(
+            @Value("${ai.hedging.pool-size:32}") int poolSize
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(0);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("ai-hedge-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 날씨 prefetch 전용 풀 (region 동시 fetch 수 = weather.prefetch.parallelism)
+     */
+    @Bean(name = "weatherPrefetchExecutor")
+    public ThreadPoolTaskExecutor weatherPrefetchExecutor(
+            @Value("${weather.prefetch.parallelism:4}") int parallelism
+    ) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("weather-prefetch-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Spring MVC 비동기 응답(StreamingResponseBody 등) 전용 풀
+     * - Executor 빈을 직접 등록하면 Boot 기본 applicationTaskExecutor가 생략되어 MVC가 무제한 SimpleAsyncTaskExecutor로 떨어짐
+     * - 엑셀 스트리밍은 스레드당 DB 커넥션 + SXSSF workbook을 잡으므로 동시 실행 수를 제한
+     * - 큐까지 가득 차면 AbortPolicy → 요청 실패 (무제한 스레드 생성 방지)
+     */
+    @Bean(name = "mvcAsyncExecutor")
+    public ThreadPoolTaskExecutor mvcAsyncExecutor(
+            @Value("${web.async.pool-size:4}") int poolSize,
+            @Value("${web.async.queue-capacity:16}") int queueCapacity
+    ) {
+        log.info("[WEB][CONFIG][AsyncExecutor] poolSize={}, queueCapacity={}", poolSize, queueCapacity);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("mvc-async-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,25 +1,113 @@
 // src/main/java/com/team/backend/config/HttpClientConfig.java
 package com.team.backend.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.DefaultConnectionKeepAliveStrategy;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.protocol.HttpClientContext;
+import org.apache.hc.core5.http.protocol.HttpContext;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.client.ClientHttpResponse;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
+import java.net.URI;
+import java.util.function.BiFunction;
 
 @Slf4j
 @Configuration
 public class HttpClientConfig {
 
+    /**
+     * AI 업스트림 전용 커넥션 풀 (aiRestTemplate / aiRestClient 공용)
+     * - route(ai:8000)당 최대 커넥션, keep-alive 재사용, TTL, idle eviction
+     * - 풀 상태는 Micrometer gauge(httpcomponents.httpclient.pool.*{httpclient=ai})로 노출
+     * - uvicorn(h11)이 HTTP/1.1만 지원하므로 HTTP/2 대신 keep-alive 풀링으로 커넥션 재사용
+     */
+    @Bean(name = "aiConnectionManager", destroyMethod = "close")
+    public PoolingHttpClientConnectionManager aiConnectionManager(
+            MeterRegistry meterRegistry,
+            @Value("${ai.connect-timeout-ms:2000}") int connectTimeoutMs,
+            @Value("${ai.read-timeout-ms:7000}") int readTimeoutMs,
+            @Value("${ai.http.max-total:100}") int maxTotal,
+            @Value("${ai.http.max-per-route:50}") int maxPerRoute,
+            @Value("${ai.http.connection-ttl-ms:60000}") long connectionTtlMs,
+            @Value("${ai.http.validate-after-inactivity-ms:2000}") long validateAfterInactivityMs
+    ) {
+        log.info("[AI][CONFIG][Pool] maxTotal={}, maxPerRoute={}, connectionTtlMs={}, validateAfterInactivityMs={}",
+                maxTotal, maxPerRoute, connectionTtlMs, validateAfterInactivityMs);
+
+        PoolingHttpClientConnectionManager cm = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+                .setConnPoolPolicy(PoolReusePolicy.LIFO)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        .setTimeToLive(TimeValue.ofMilliseconds(connectionTtlMs))
+                        .setValidateAfterInactivity(TimeValue.ofMilliseconds(validateAfterInactivityMs))
+                        .build())
+                .build();
+
+        new PoolingHttpClientConnectionManagerMetricsBinder(cm, "ai").bindTo(meterRegistry);
+        return cm;
+    }
+
+    @Bean(name = "aiHttpClient", destroyMethod = "close")
+    public CloseableHttpClient aiHttpClient(
+            @Qualifier("aiConnectionManager") PoolingHttpClientConnectionManager cm,
+            @Value("${ai.read-timeout-ms:7000}") int readTimeoutMs,
+            @Value("${ai.http.connection-request-timeout-ms:1000}") int connectionRequestTimeoutMs,
+            @Value("${ai.http.keep-alive-ms:30000}") long keepAliveMs,
+            @Value("${ai.http.idle-evict-ms:30000}") long idleEvictMs
+    ) {
+        log.info("[AI][CONFIG][HttpClient] keepAliveMs={}, idleEvictMs={}, connectionRequestTimeoutMs={}",
+                keepAliveMs, idleEvictMs, connectionRequestTimeoutMs);
+
+        return HttpClients.custom()
+                .setConnectionManager(cm)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+                        .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                        // Keep-Alive 헤더가 없을 때 DefaultConnectionKeepAliveStrategy가 쓰는 기본값
+                        .setConnectionKeepAlive(TimeValue.ofMilliseconds(keepAliveMs))
+                        .build())
+                // 서버 Keep-Alive: timeout=N 헤더 우선, 없으면(또는 음수/null) keepAliveMs 동안 재사용
+                .setKeepAliveStrategy((response, context) -> {
+                    TimeValue fromServer = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                    return (fromServer == null || fromServer.getDuration() < 0)
+                            ? TimeValue.ofMilliseconds(keepAliveMs)
+                            : fromServer;
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictMs))
+                .build();
+    }
+
     @Bean(name = "aiRestTemplate")
     public RestTemplate aiRestTemplate(
             RestTemplateBuilder builder,
+            @Qualifier("aiHttpClient") CloseableHttpClient aiHttpClient,
+            @Qualifier("recommendationAiCircuitBreaker") AiCircuitBreaker breaker,
+            @Value("${ai.http.connection-request-timeout-ms:1000}") int connectionRequestTimeoutMs,
             @Value("${ai.base-url:http://localhost:8000}") String baseUrl,
             @Value("${ai.connect-timeout-ms:2000}") int connectTimeoutMs,
             @Value("${ai.read-timeout-ms:7000}") int readTimeoutMs
@@ -27,10 +115,13 @@ public class HttpClientConfig {
         log.info("[AI][CONFIG][RestTemplate] baseUrl={}, connectTimeoutMs={}, readTimeoutMs={}",
                 baseUrl, connectTimeoutMs, readTimeoutMs);
 
+        // 타임아웃은 aiConnectionManager / aiHttpClient에서 이미 설정됨 (AI 호출은 circuit breaker의 adaptive timeout으로 덮어씀)
+        HttpComponentsClientHttpRequestFactory rf = new HttpComponentsClientHttpRequestFactory(aiHttpClient);
+        rf.setHttpContextFactory(adaptiveTimeoutContext(breaker, baseUrl, connectionRequestTimeoutMs));
+
         return builder
                 .rootUri(baseUrl)
-                .setConnectTimeout(Duration.ofMillis(connectTimeoutMs))
-                .setReadTimeout(Duration.ofMillis(readTimeoutMs))
+                .requestFactory(() -> rf)
                 .additionalInterceptors((request, body, execution) -> {
                     long start = System.currentTimeMillis();
                     log.info("[AI][REQ] {} {}", request.getMethod(), request.getURI());
@@ -58,9 +149,13 @@ public class HttpClientConfig {
      *
      *       여기서는 타임아웃/베이스URL만 책임지고,
      *       요청/응답 로깅은 클라이언트 레이어에서 log.info로 찍는 방식으로 간다.
+     *       (커넥션 풀은 aiRestTemplate과 같은 aiHttpClient를 공유)
      */
     @Bean(name = "aiRestClient")
     public RestClient aiRestClient(
+            @Qualifier("aiHttpClient") CloseableHttpClient aiHttpClient,
+            @Qualifier("feedbackAiCircuitBreaker") AiCircuitBreaker breaker,
+            @Value("${ai.http.connection-request-timeout-ms:1000}") int connectionRequestTimeoutMs,
             @Value("${ai.base-url:http://localhost:8000}") String baseUrl,
             @Value("${ai.connect-timeout-ms:2000}") int connectTimeoutMs,
             @Value("${ai.read-timeout-ms:7000}") int readTimeoutMs
@@ -68,13 +163,33 @@ public class HttpClientConfig {
         log.info("[AI][CONFIG][RestClient] baseUrl={}, connectTimeoutMs={}, readTimeoutMs={}",
                 baseUrl, connectTimeoutMs, readTimeoutMs);
 
-        SimpleClientHttpRequestFactory rf = new SimpleClientHttpRequestFactory();
-        rf.setConnectTimeout(connectTimeoutMs);
-        rf.setReadTimeout(readTimeoutMs);
+        HttpComponentsClientHttpRequestFactory rf = new HttpComponentsClientHttpRequestFactory(aiHttpClient);
+        rf.setHttpContextFactory(adaptiveTimeoutContext(breaker, baseUrl, connectionRequestTimeoutMs));
 
         return RestClient.builder()
                 .baseUrl(baseUrl)
                 .requestFactory(rf)
                 .build();
     }
+
+    /**
+     * AI base-url로 가는 요청에만 circuit breaker가 계산한 latency 기반 timeout을 요청 단위로 적용
+     * - aiRestTemplate은 WeatherService(OpenWeather)에서도 주입받아 쓰므로 외부 URL은 기본 설정 유지
+     */
+    private BiFunction<HttpMethod, URI, HttpContext> adaptiveTimeoutContext(
+            AiCircuitBreaker breaker,
+            String baseUrl,
+            int connectionRequestTimeoutMs
+    ) {
+        return (method, uri) -> {
+            if (uri == null || !uri.toString().startsWith(baseUrl)) return null;
+
+            HttpClientContext ctx = HttpClientContext.create();
+            ctx.setRequestConfig(RequestConfig.custom()
+                    .setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionRequestTimeoutMs))
+                    .setResponseTimeout(Timeout.ofMilliseconds(breaker.currentTimeoutMs()))
+                    .build());
+            return ctx;
+        };
+    }
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.team.backend.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "weather.prefetch")
+public class WeatherPrefetchProperties {
+    private boolean enabled = true;
+
+    // 비어있으면 codi.default-location 1곳만 prefetch
+    private List<Region> regions = new ArrayList<>();
+
+    // 주기 실행: interval ± jitter (여러 인스턴스가 같은 시각에 몰리지 않도록)
+    private long initialDelayMs = 30_000;
+    private long intervalMs = 3 * 60 * 60 * 1000L;
+    private long jitterMs = 5 * 60 * 1000L;
+
+    // KST 자정 N분 전에 한 번 더 갱신 → 날짜가 바뀌자마자 오늘 데이터가 이미 있도록
+    private int preMidnightMinutes = 10;
+
+    // region 동시 fetch 수 + 실패 시 지수 backoff 재시도
+    private int parallelism = 4;
+    private int maxAttempts = 3;
+    private long backoffMs = 2_000;
+
+    @Getter
+    @Setter
+    public static class Region {
+        private String name;
+        private double lat;
+        private double lon;
+    }
+}
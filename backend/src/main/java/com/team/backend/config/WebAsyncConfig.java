@@ -0,0 +1,33 @@
+// src/main/java/com/team/backend/config/WebAsyncConfig.java
+package com.team.backend.config;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * MVC 비동기 응답(StreamingResponseBody)을 bounded mvcAsyncExecutor에서 실행
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private final ThreadPoolTaskExecutor mvcAsyncExecutor;
+    private final long timeoutMs;
+
+    public WebAsyncConfig(
+            @Qualifier("mvcAsyncExecutor") ThreadPoolTaskExecutor mvcAsyncExecutor,
+            @Value("${web.async.timeout-ms:300000}") long timeoutMs
+    ) {
+        this.mvcAsyncExecutor = mvcAsyncExecutor;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setTaskExecutor(mvcAsyncExecutor);
+        configurer.setDefaultTimeout(timeoutMs);
+    }
+}
@@ -2,7 +2,8 @@
 package com.team.backend.repository.admin;
 
 import com.team.backend.api.dto.admin.dashboard.DashboardMonthlyRowResponseDto;
-import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
@@ -10,13 +11,28 @@ import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 @Repository
-@RequiredArgsConstructor
 public class DashboardMonthlyJdbcRepository {
 
+    /** 스트리밍 조회 fetch size (트랜잭션 안이면 PG 드라이버가 cursor로 나눠서 가져옴) */
+    private static final int STREAM_FETCH_SIZE = 500;
+
     private final NamedParameterJdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate streamJdbc;
+
+    public DashboardMonthlyJdbcRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+
+        JdbcTemplate cursor = new JdbcTemplate(Objects.requireNonNull(jdbc.getJdbcTemplate().getDataSource()));
+        cursor.setFetchSize(STREAM_FETCH_SIZE);
+        this.streamJdbc = new NamedParameterJdbcTemplate(cursor);
+    }
 
     /**
      * recommendation_event_log event_type (프로젝트 내 혼재 대응)
@@ -39,6 +55,21 @@ public class DashboardMonthlyJdbcRepository {
     private static final String EV_FEEDBACK_SUBMITTED = "RECO_FEEDBACK_SUBMITTED";
 
     public void upsertMonthlyKpi(LocalDate monthStart, String region, OffsetDateTime from, OffsetDateTime to) {
+        upsertMonthlyKpi(monthStart, region, from, to, null);
+    }
+
+    /**
+     * @param uniqueUsersOverride null이 아니면 unique_users COUNT(DISTINCT)를 건너뛰고 이 값 저장 (HLL approx 모드)
+     */
+    public void upsertMonthlyKpi(LocalDate monthStart, String region, OffsetDateTime from, OffsetDateTime to,
+                                 Long uniqueUsersOverride) {
+        String uniqueUsersExpr = (uniqueUsersOverride != null)
+                ? "CAST(:uniqueUsers AS bigint)"
+                : """
+                  COUNT(DISTINCT COALESCE(user_id::text, session_key))
+                    FILTER (WHERE COALESCE(user_id::text, session_key) IS NOT NULL
+                             AND COALESCE(user_id::text, session_key) <> '')""";
+
         /**
          * 핵심:
          * - admin_monthly_kpi는 "스냅샷 테이블"이라 이 upsert가 실행되어야 값이 채워짐.
@@ -50,9 +81,7 @@ public class DashboardMonthlyJdbcRepository {
               SELECT
                 COUNT(*) AS total_session_events,
                 COUNT(*) FILTER (WHERE event_type = 'START') AS total_sessions,
-                COUNT(DISTINCT COALESCE(user_id::text, session_key))
-                  FILTER (WHERE COALESCE(user_id::text, session_key) IS NOT NULL
-                           AND COALESCE(user_id::text, session_key) <> '') AS unique_users,
+                %s AS unique_users,
                 COUNT(*) FILTER (WHERE event_type = 'ERROR') AS error_events,
                 COUNT(*) FILTER (WHERE event_type = 'START') AS started_sessions,
                 COUNT(*) FILTER (WHERE event_type = 'END')   AS ended_sessions
@@ -165,7 +194,8 @@ public class DashboardMonthlyJdbcRepository {
               shown_to_feedback_rate     = EXCLUDED.shown_to_feedback_rate,
               checklist_to_feedback_rate = EXCLUDED.checklist_to_feedback_rate,
               shown_to_select_rate       = EXCLUDED.shown_to_select_rate
-            """;
+            WHERE public.admin_monthly_kpi.is_final = false
+            """.formatted(uniqueUsersExpr);
 
         MapSqlParameterSource p = new MapSqlParameterSource()
                 .addValue("monthStart", monthStart)
@@ -176,7 +206,8 @@ public class DashboardMonthlyJdbcRepository {
                 .addValue("RECO_GENERATED_LIST", RECO_GENERATED_LIST)
                 .addValue("EV_CHECKLIST", EV_CHECKLIST)
                 .addValue("EV_FEEDBACK_SUBMITTED", EV_FEEDBACK_SUBMITTED)
-                .addValue("EV_ITEM_SEL", EV_ITEM_SEL);
+                .addValue("EV_ITEM_SEL", EV_ITEM_SEL)
+                .addValue("uniqueUsers", uniqueUsersOverride);
 
         jdbc.update(sql, p);
     }
@@ -302,7 +333,17 @@ public class DashboardMonthlyJdbcRepository {
     });
 }
     public List<TopClickedSnapshotRow> fetchMonthlyTopClicked(LocalDate fromMonthStart, LocalDate toMonthStart, String region, int topN) {
-        if (topN <= 0) return List.of();
+        List<TopClickedSnapshotRow> out = new ArrayList<>();
+        streamMonthlyTopClicked(fromMonthStart, toMonthStart, region, topN, out::add);
+        return out;
+    }
+
+    /**
+     * fetchMonthlyTopClicked 스트리밍 버전 (엑셀 export: row를 모으지 않고 바로 write)
+     */
+    public void streamMonthlyTopClicked(LocalDate fromMonthStart, LocalDate toMonthStart, String region, int topN,
+                                        Consumer<TopClickedSnapshotRow> sink) {
+        if (topN <= 0) return;
 
         String sql = """
             WITH totals AS (
@@ -314,6 +355,7 @@ public class DashboardMonthlyJdbcRepository {
               WHERE region = :r
                 AND month_start >= :fromM
                 AND month_start <= :toM
+                AND rank_no <= :topN
               GROUP BY month_start, region
             )
             SELECT
@@ -344,16 +386,16 @@ public class DashboardMonthlyJdbcRepository {
                 .addValue("toM", toMonthStart)
                 .addValue("topN", topN);
 
-        return jdbc.query(sql, p, (rs, rowNum) -> {
+        streamJdbc.query(sql, p, (RowCallbackHandler) rs -> {
             BigDecimal ratio = rs.getBigDecimal("click_ratio");
-            return new TopClickedSnapshotRow(
+            sink.accept(new TopClickedSnapshotRow(
                     rs.getString("month"),
                     rs.getInt("rank"),
                     rs.getLong("item_id"),
                     rs.getString("name"),
                     rs.getLong("click_count"),
                     ratio == null ? 0.0 : ratio.doubleValue()
-            );
+            ));
         });
     }
 
@@ -377,6 +419,44 @@ public class DashboardMonthlyJdbcRepository {
         });
     }
 
+    /**
+     * 스냅샷 상태 (month_start → generated_at / is_final)
+     */
+    public Map<LocalDate, SnapshotState> findSnapshotStates(LocalDate fromMonthStart, LocalDate toMonthStart, String region) {
+        String sql = """
+            SELECT month_start, generated_at, is_final
+            FROM public.admin_monthly_kpi
+            WHERE region = :r
+              AND month_start >= :fromM
+              AND month_start <= :toM
+            """;
+
+        MapSqlParameterSource p = new MapSqlParameterSource()
+                .addValue("r", region)
+                .addValue("fromM", fromMonthStart)
+                .addValue("toM", toMonthStart);
+
+        Map<LocalDate, SnapshotState> out = new HashMap<>();
+        jdbc.query(sql, p, (RowCallbackHandler) rs -> out.put(
+                rs.getObject("month_start", LocalDate.class),
+                new SnapshotState(rs.getObject("generated_at", OffsetDateTime.class), rs.getBoolean("is_final"))
+        ));
+        return out;
+    }
+
+    /** 마감 월 확정 → 이후 upsertMonthlyKpi가 덮어쓰지 않음 */
+    public void markFinal(LocalDate monthStart, String region) {
+        jdbc.update("""
+            UPDATE public.admin_monthly_kpi
+               SET is_final = true,
+                   finalized_at = now()
+             WHERE month_start = :m
+               AND region = :r
+            """, new MapSqlParameterSource().addValue("m", monthStart).addValue("r", region));
+    }
+
+    public record SnapshotState(OffsetDateTime generatedAt, boolean isFinal) {}
+
     public record TopClickedSnapshotRow(
             String month,
             int rank,
@@ -20,34 +20,34 @@ public class DashboardOverviewJdbcRepository {
     private static final String KST = "Asia/Seoul";
 
     // session_log event_type
-    private static final String S_START = "START";
-    private static final String S_END   = "END";
-    private static final String S_ERROR = "ERROR";
+    static final String S_START = "START";
+    static final String S_END   = "END";
+    static final String S_ERROR = "ERROR";
 
     /**
      * recommendation_event_log event_type (실데이터 기준)
      * - 레거시/변형 이름까지 흡수하려고 LIST로 처리
      */
-    private static final List<String> R_GENERATED_LIST = List.of(
+    static final List<String> R_GENERATED_LIST = List.of(
             "RECO_GENERATED",
             "RECO_TODAY_GENERATED",
             "RECO_SHOWN"
     );
 
-    private static final List<String> R_EMPTY_LIST = List.of(
+    static final List<String> R_EMPTY_LIST = List.of(
             "RECO_EMPTY",
             "RECO_TODAY_EMPTY"
     );
 
     // funnel (요구사항: 체크리스트 → 추천 → 피드백)
-    private static final String F_CHECKLIST = "CHECKLIST_SUBMITTED";
-    private static final List<String> F_RECO_LIST = List.of(
+    static final String F_CHECKLIST = "CHECKLIST_SUBMITTED";
+    static final List<String> F_RECO_LIST = List.of(
             "RECO_GENERATED",
             "RECO_TODAY_GENERATED",
             "RECO_SHOWN"
     );
-    private static final String F_FEEDBACK = "RECO_FEEDBACK_SUBMITTED";
-    private static final String F_SELECTED = "RECO_ITEM_SELECTED"; // 있으면 같이 집계 (없으면 0)
+    static final String F_FEEDBACK = "RECO_FEEDBACK_SUBMITTED";
+    static final String F_SELECTED = "RECO_ITEM_SELECTED"; // 있으면 같이 집계 (없으면 0)
 
     private final NamedParameterJdbcTemplate jdbc;
 
@@ -56,6 +56,22 @@ public class DashboardOverviewJdbcRepository {
     // =========================
 
     public SummaryRow findSummary(OffsetDateTime from, OffsetDateTime to) {
+        return findSummary(from, to, null);
+    }
+
+    /**
+     * @param uniqueUsersOverride null이 아니면 unique_users COUNT(DISTINCT) 서브쿼리를 건너뛰고 이 값 사용 (HLL approx 모드)
+     */
+    public SummaryRow findSummary(OffsetDateTime from, OffsetDateTime to, Long uniqueUsersOverride) {
+        String uniqueUsersExpr = (uniqueUsersOverride != null)
+                ? "CAST(:uniqueUsers AS bigint)"
+                : """
+                  (SELECT COUNT(DISTINCT COALESCE(user_id::text, session_key))
+                     FROM public.session_log
+                    WHERE created_at >= :from AND created_at < :to
+                      AND COALESCE(user_id::text, session_key) IS NOT NULL
+                      AND COALESCE(user_id::text, session_key) <> '')""";
+
         String sql = """
             SELECT
               (SELECT COUNT(*)
@@ -66,11 +82,7 @@ public class DashboardOverviewJdbcRepository {
                  FROM public.session_log
                 WHERE created_at >= :from AND created_at < :to) AS total_sessions,
 
-              (SELECT COUNT(DISTINCT COALESCE(user_id::text, session_key))
-                 FROM public.session_log
-                WHERE created_at >= :from AND created_at < :to
-                  AND COALESCE(user_id::text, session_key) IS NOT NULL
-                  AND COALESCE(user_id::text, session_key) <> '') AS unique_users,
+              %s AS unique_users,
 
               (SELECT COUNT(*) FILTER (WHERE event_type = :S_ERROR)
                  FROM public.session_log
@@ -99,61 +111,34 @@ public class DashboardOverviewJdbcRepository {
               (SELECT COUNT(*) FILTER (WHERE event_type IN (:R_GENERATED_LIST))
                  FROM public.recommendation_event_log
                 WHERE created_at >= :from AND created_at < :to) AS reco_generated
-            """;
+            """.formatted(uniqueUsersExpr);
 
         MapSqlParameterSource p = baseParams(from, to)
                 .addValue("S_START", S_START)
                 .addValue("S_END", S_END)
                 .addValue("S_ERROR", S_ERROR)
                 .addValue("R_EMPTY_LIST", R_EMPTY_LIST)
-                .addValue("R_GENERATED_LIST", R_GENERATED_LIST);
+                .addValue("R_GENERATED_LIST", R_GENERATED_LIST)
+                .addValue("uniqueUsers", uniqueUsersOverride);
 
         FunnelRow funnel = findFunnel(from, to);
         double returningRate = findReturningRate(from, to);
 
         try {
-            return jdbc.queryForObject(sql, p, (rs, rowNum) -> {
-                long totalSessionEvents = rs.getLong("total_session_events");
-                long totalSessions      = rs.getLong("total_sessions");
-                long uniqueUsers        = rs.getLong("unique_users");
-
-                double avgSessionsPerUser =
-                        (uniqueUsers == 0) ? 0.0 : round2((double) totalSessions / (double) uniqueUsers);
-
-                long startedSessions = rs.getLong("started_sessions");
-                long endedSessions   = rs.getLong("ended_sessions");
-                double sessionEndRate =
-                        (startedSessions == 0) ? 0.0 : round2((double) endedSessions * 100.0 / (double) startedSessions);
-
-                long recoEmpty     = rs.getLong("reco_empty");
-                long recoGenerated = rs.getLong("reco_generated");
-                long denom = recoEmpty + recoGenerated;
-                double recoEmptyRate =
-                        (denom == 0) ? 0.0 : round2((double) recoEmpty * 100.0 / (double) denom);
-
-                return new SummaryRow(
-                        totalSessionEvents,
-                        totalSessions,
-                        uniqueUsers,
-                        avgSessionsPerUser,
-
-                        rs.getLong("total_clicks"),
-                        rs.getLong("total_reco_events"),
-
-                        rs.getLong("error_events"),
-
-                        startedSessions,
-                        endedSessions,
-                        sessionEndRate,
-
-                        recoEmpty,
-                        recoGenerated,
-                        recoEmptyRate,
-
-                        returningRate,
-                        funnel
-                );
-            });
+            return jdbc.queryForObject(sql, p, (rs, rowNum) -> toSummaryRow(
+                    rs.getLong("total_session_events"),
+                    rs.getLong("total_sessions"),
+                    rs.getLong("unique_users"),
+                    rs.getLong("total_clicks"),
+                    rs.getLong("total_reco_events"),
+                    rs.getLong("error_events"),
+                    rs.getLong("started_sessions"),
+                    rs.getLong("ended_sessions"),
+                    rs.getLong("reco_empty"),
+                    rs.getLong("reco_generated"),
+                    returningRate,
+                    funnel
+            ));
         } catch (EmptyResultDataAccessException e) {
             return new SummaryRow(
                     0, 0, 0, 0.0,
@@ -189,11 +174,8 @@ public class DashboardOverviewJdbcRepository {
         MapSqlParameterSource p = baseParams(from, to).addValue("S_START", S_START);
 
         try {
-            return jdbc.queryForObject(sql, p, (rs, rowNum) -> {
-                long active = rs.getLong("active_users");
-                long returning = rs.getLong("returning_users");
-                return (active == 0) ? 0.0 : round2((double) returning * 100.0 / (double) active);
-            });
+            return jdbc.queryForObject(sql, p, (rs, rowNum) ->
+                    rate100(rs.getLong("returning_users"), rs.getLong("active_users")));
         } catch (EmptyResultDataAccessException e) {
             return 0.0;
         }
@@ -222,22 +204,12 @@ public class DashboardOverviewJdbcRepository {
                 .addValue("SELECTED", F_SELECTED);
 
         try {
-            return jdbc.queryForObject(sql, p, (rs, rowNum) -> {
-                long checklist = rs.getLong("checklist_submitted");
-                long shown     = rs.getLong("reco_shown");
-                long feedback  = rs.getLong("feedback_requested");
-                long selected  = rs.getLong("item_selected");
-
-                double checklistToShown    = rate100(shown, checklist);
-                double shownToFeedback     = rate100(feedback, shown);
-                double checklistToFeedback = rate100(feedback, checklist);
-                double shownToSelect       = rate100(selected, shown);
-
-                return new FunnelRow(
-                        checklist, shown, feedback, selected,
-                        checklistToShown, shownToFeedback, checklistToFeedback, shownToSelect
-                );
-            });
+            return jdbc.queryForObject(sql, p, (rs, rowNum) -> toFunnelRow(
+                    rs.getLong("checklist_submitted"),
+                    rs.getLong("reco_shown"),
+                    rs.getLong("feedback_requested"),
+                    rs.getLong("item_selected")
+            ));
         } catch (EmptyResultDataAccessException e) {
             return new FunnelRow(0, 0, 0, 0, 0.0, 0.0, 0.0, 0.0);
         }
@@ -261,19 +233,12 @@ public class DashboardOverviewJdbcRepository {
 
         MapSqlParameterSource p = baseParams(from, to).addValue("S_ERROR", S_ERROR);
 
-        return jdbc.query(sql, p, (rs, rowNum) -> {
-            long events = rs.getLong("session_event_count");
-            long errors = rs.getLong("error_event_count");
-            double errorRate = (events == 0) ? 0.0 : round2((double) errors * 100.0 / (double) events);
-
-            return new DailySessionRow(
-                    rs.getObject("d", LocalDate.class),
-                    events,
-                    rs.getLong("unique_user_count"),
-                    errors,
-                    errorRate
-            );
-        });
+        return jdbc.query(sql, p, (rs, rowNum) -> toDailySessionRow(
+                rs.getObject("d", LocalDate.class),
+                rs.getLong("session_event_count"),
+                rs.getLong("unique_user_count"),
+                rs.getLong("error_event_count")
+        ));
     }
 
     public List<DailyClickRow> findDailyClicks(OffsetDateTime from, OffsetDateTime to) {
@@ -393,6 +358,65 @@ public class DashboardOverviewJdbcRepository {
         private final long clickCount;
     }
 
+    // =========================
+    // Row builders (raw / rollup 공용)
+    // =========================
+
+    static SummaryRow toSummaryRow(
+            long totalSessionEvents,
+            long totalSessions,
+            long uniqueUsers,
+            long totalClicks,
+            long totalRecoEvents,
+            long errorEvents,
+            long startedSessions,
+            long endedSessions,
+            long recoEmpty,
+            long recoGenerated,
+            double returningRate,
+            FunnelRow funnel
+    ) {
+        double avgSessionsPerUser =
+                (uniqueUsers == 0) ? 0.0 : round2((double) totalSessions / (double) uniqueUsers);
+
+        return new SummaryRow(
+                totalSessionEvents,
+                totalSessions,
+                uniqueUsers,
+                avgSessionsPerUser,
+
+                totalClicks,
+                totalRecoEvents,
+
+                errorEvents,
+
+                startedSessions,
+                endedSessions,
+                rate100(endedSessions, startedSessions),
+
+                recoEmpty,
+                recoGenerated,
+                rate100(recoEmpty, recoEmpty + recoGenerated),
+
+                returningRate,
+                funnel
+        );
+    }
+
+    static FunnelRow toFunnelRow(long checklist, long shown, long feedback, long selected) {
+        return new FunnelRow(
+                checklist, shown, feedback, selected,
+                rate100(shown, checklist),
+                rate100(feedback, shown),
+                rate100(feedback, checklist),
+                rate100(selected, shown)
+        );
+    }
+
+    static DailySessionRow toDailySessionRow(LocalDate date, long events, long uniqueUsers, long errors) {
+        return new DailySessionRow(date, events, uniqueUsers, errors, rate100(errors, events));
+    }
+
     // =========================
     // Utils
     // =========================
@@ -407,7 +431,7 @@ public class DashboardOverviewJdbcRepository {
         return Math.round(v * 100.0) / 100.0;
     }
 
-    private static double rate100(long numerator, long denominator) {
+    static double rate100(long numerator, long denominator) {
         if (denominator <= 0) return 0.0;
         return round2((double) numerator * 100.0 / (double) denominator);
     }
@@ -0,0 +1,417 @@
+// src/main/java/com/team/backend/repository/admin/DashboardRollupJdbcRepository.java
+package com.team.backend.repository.admin;
+
+import com.team.backend.repository.admin.DashboardOverviewJdbcRepository.DailyClickRow;
+import com.team.backend.repository.admin.DashboardOverviewJdbcRepository.DailySessionRow;
+import com.team.backend.repository.admin.DashboardOverviewJdbcRepository.FunnelRow;
+import com.team.backend.repository.admin.DashboardOverviewJdbcRepository.SummaryRow;
+import com.team.backend.repository.admin.DashboardOverviewJdbcRepository.TopClickedItemRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+import static com.team.backend.repository.admin.DashboardOverviewJdbcRepository.*;
+
+/**
+ * admin overview rollup (KST 일 단위)
+ * - 쓰기: rollupDay(day) → 해당 일자 raw 로그를 다시 접어서 DELETE + INSERT (멱등)
+ * - 읽기: [from, rolledUntil) 은 rollup, [rolledUntil, to) 는 raw tail → UNION ALL 후 합산
+ * - 결과 row 타입은 DashboardOverviewJdbcRepository 것을 그대로 사용 (응답 DTO 변경 없음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class DashboardRollupJdbcRepository {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+    private static final String WATERMARK = "overview";
+
+    private final NamedParameterJdbcTemplate jdbc;
+
+    /**
+     * 조회 구간 분할
+     * - rollup: [rollupFrom, rollupTo) (KST date)
+     * - tail:   [tailFrom, tailTo) (raw 로그)
+     * 빈 구간이면 from >= to 라서 SQL 조건상 자연스럽게 0건
+     */
+    public record Window(LocalDate rollupFrom, LocalDate rollupTo, OffsetDateTime tailFrom, OffsetDateTime tailTo) {
+
+        public static Window of(LocalDate fromInclusive, LocalDate toExclusive, LocalDate rolledUntil) {
+            LocalDate split = (rolledUntil == null) ? fromInclusive : rolledUntil;
+            if (split.isBefore(fromInclusive)) split = fromInclusive;
+            if (split.isAfter(toExclusive)) split = toExclusive;
+
+            return new Window(
+                    fromInclusive,
+                    split,
+                    split.atStartOfDay(KST).toOffsetDateTime(),
+                    toExclusive.atStartOfDay(KST).toOffsetDateTime()
+            );
+        }
+
+        MapSqlParameterSource params() {
+            return new MapSqlParameterSource()
+                    .addValue("rFrom", rollupFrom)
+                    .addValue("rTo", rollupTo)
+                    .addValue("tFrom", tailFrom)
+                    .addValue("tTo", tailTo);
+        }
+    }
+
+    // =========================
+    // Watermark
+    // =========================
+
+    public Optional<LocalDate> findRolledUntil() {
+        List<LocalDate> rows = jdbc.queryForList(
+                "SELECT rolled_until FROM public.admin_rollup_watermark WHERE name = :name",
+                new MapSqlParameterSource("name", WATERMARK), LocalDate.class);
+        return rows.stream().findFirst();
+    }
+
+    /** 되감기 없음 (재집계로 과거 일자를 다시 돌려도 watermark는 유지) */
+    public void advanceRolledUntil(LocalDate rolledUntil) {
+        jdbc.update("""
+                INSERT INTO public.admin_rollup_watermark (name, rolled_until, updated_at)
+                VALUES (:name, :until, now())
+                ON CONFLICT (name) DO UPDATE
+                   SET rolled_until = GREATEST(public.admin_rollup_watermark.rolled_until, EXCLUDED.rolled_until),
+                       updated_at = now()
+                """, new MapSqlParameterSource()
+                .addValue("name", WATERMARK)
+                .addValue("until", rolledUntil));
+    }
+
+    /** 최초 실행 시 시작점: 세 로그 테이블 중 가장 이른 KST 일자 */
+    public Optional<LocalDate> findEarliestLogDate() {
+        List<LocalDate> rows = jdbc.queryForList("""
+                SELECT (MIN(t) AT TIME ZONE '%s')::date
+                  FROM (
+                    SELECT MIN(created_at) AS t FROM public.session_log
+                    UNION ALL
+                    SELECT MIN(created_at) FROM public.item_click_log
+                    UNION ALL
+                    SELECT MIN(created_at) FROM public.recommendation_event_log
+                  ) x
+                """.formatted("Asia/Seoul"), new MapSqlParameterSource(), LocalDate.class);
+        return rows.stream().filter(Objects::nonNull).findFirst();
+    }
+
+    // =========================
+    // Write
+    // =========================
+
+    /** 하루치 재집계 (호출부 트랜잭션 안에서 실행) */
+    public void rollupDay(LocalDate day) {
+        MapSqlParameterSource p = new MapSqlParameterSource()
+                .addValue("day", day)
+                .addValue("from", day.atStartOfDay(KST).toOffsetDateTime())
+                .addValue("to", day.plusDays(1).atStartOfDay(KST).toOffsetDateTime())
+                .addValue("S_START", S_START);
+
+        jdbc.update("DELETE FROM public.admin_rollup_daily_event WHERE kst_date = :day", p);
+        jdbc.update("DELETE FROM public.admin_rollup_daily_user WHERE kst_date = :day", p);
+        jdbc.update("DELETE FROM public.admin_rollup_daily_item_click WHERE kst_date = :day", p);
+
+        jdbc.update("""
+                INSERT INTO public.admin_rollup_daily_event (kst_date, source, event_type, event_count)
+                SELECT :day, 'SESSION', COALESCE(event_type, ''), COUNT(*)
+                  FROM public.session_log
+                 WHERE created_at >= :from AND created_at < :to
+                 GROUP BY COALESCE(event_type, '')
+                UNION ALL
+                SELECT :day, 'CLICK', COALESCE(event_type, ''), COUNT(*)
+                  FROM public.item_click_log
+                 WHERE created_at >= :from AND created_at < :to
+                 GROUP BY COALESCE(event_type, '')
+                UNION ALL
+                SELECT :day, 'RECO', COALESCE(event_type, ''), COUNT(*)
+                  FROM public.recommendation_event_log
+                 WHERE created_at >= :from AND created_at < :to
+                 GROUP BY COALESCE(event_type, '')
+                """, p);
+
+        jdbc.update("""
+                INSERT INTO public.admin_rollup_daily_user (kst_date, user_key, start_count)
+                SELECT :day,
+                       COALESCE(user_id::text, session_key),
+                       COUNT(*) FILTER (WHERE event_type = :S_START)
+                  FROM public.session_log
+                 WHERE created_at >= :from AND created_at < :to
+                   AND COALESCE(user_id::text, session_key) IS NOT NULL
+                   AND COALESCE(user_id::text, session_key) <> ''
+                 GROUP BY COALESCE(user_id::text, session_key)
+                """, p);
+
+        jdbc.update("""
+                INSERT INTO public.admin_rollup_daily_item_click (kst_date, clothing_id, click_count)
+                SELECT :day, clothing_id, COUNT(*)
+                  FROM public.item_click_log
+                 WHERE created_at >= :from AND created_at < :to
+                   AND clothing_id IS NOT NULL
+                 GROUP BY clothing_id
+                """, p);
+    }
+
+    // =========================
+    // Read
+    // =========================
+
+    public SummaryRow findSummary(Window w) {
+        return findSummary(w, null);
+    }
+
+    /**
+     * @param uniqueUsersOverride null이 아니면 전체 per-user 집계(findUserStats)를 건너뛰고 이 값을 unique users로 사용 (HLL approx 모드).
+     *                            returning rate 분자는 START가 있는 user만 묶는 findReturningUsers로 따로 구하고, 분모는 이 근사값을 쓴다.
+     */
+    public SummaryRow findSummary(Window w, Long uniqueUsersOverride) {
+        Map<String, Long> session = new HashMap<>();
+        Map<String, Long> reco = new HashMap<>();
+        long totalClicks = 0;
+
+        List<Object[]> rows = jdbc.query("""
+                SELECT source, event_type, SUM(cnt) AS cnt
+                  FROM (
+                    SELECT source, event_type, event_count AS cnt
+                      FROM public.admin_rollup_daily_event
+                     WHERE kst_date >= :rFrom AND kst_date < :rTo
+                    UNION ALL
+                    SELECT 'SESSION', COALESCE(event_type, ''), COUNT(*)
+                      FROM public.session_log
+                     WHERE created_at >= :tFrom AND created_at < :tTo
+                     GROUP BY COALESCE(event_type, '')
+                    UNION ALL
+                    SELECT 'CLICK', COALESCE(event_type, ''), COUNT(*)
+                      FROM public.item_click_log
+                     WHERE created_at >= :tFrom AND created_at < :tTo
+                     GROUP BY COALESCE(event_type, '')
+                    UNION ALL
+                    SELECT 'RECO', COALESCE(event_type, ''), COUNT(*)
+                      FROM public.recommendation_event_log
+                     WHERE created_at >= :tFrom AND created_at < :tTo
+                     GROUP BY COALESCE(event_type, '')
+                  ) x
+                 GROUP BY source, event_type
+                """, w.params(), (rs, rowNum) -> new Object[]{
+                rs.getString("source"), rs.getString("event_type"), rs.getLong("cnt")
+        });
+
+        for (Object[] r : rows) {
+            String source = (String) r[0];
+            String eventType = (String) r[1];
+            long cnt = (Long) r[2];
+            switch (source) {
+                case "SESSION" -> session.merge(eventType, cnt, Long::sum);
+                case "RECO" -> reco.merge(eventType, cnt, Long::sum);
+                case "CLICK" -> totalClicks += cnt;
+                default -> { }
+            }
+        }
+
+        long uniqueUsers;
+        long returningUsers;
+        if (uniqueUsersOverride != null) {
+            uniqueUsers = uniqueUsersOverride;
+            // 근사 분모보다 정확 분자가 커지는 경우 100%를 넘지 않게 자름
+            returningUsers = Math.min(findReturningUsers(w), uniqueUsers);
+        } else {
+            long[] users = findUserStats(w);
+            uniqueUsers = users[0];
+            returningUsers = users[1];
+        }
+
+        long started = session.getOrDefault(S_START, 0L);
+        FunnelRow funnel = toFunnelRow(
+                reco.getOrDefault(F_CHECKLIST, 0L),
+                sumOf(reco, F_RECO_LIST),
+                reco.getOrDefault(F_FEEDBACK, 0L),
+                reco.getOrDefault(F_SELECTED, 0L)
+        );
+
+        return toSummaryRow(
+                sumOf(session, session.keySet()),
+                started,
+                uniqueUsers,
+                totalClicks,
+                sumOf(reco, reco.keySet()),
+                session.getOrDefault(S_ERROR, 0L),
+                started,
+                session.getOrDefault(S_END, 0L),
+                sumOf(reco, R_EMPTY_LIST),
+                sumOf(reco, R_GENERATED_LIST),
+                rate100(returningUsers, uniqueUsers),
+                funnel
+        );
+    }
+
+    /** [0]=active(unique) users, [1]=returning users(기간 내 START 2회 이상) */
+    private long[] findUserStats(Window w) {
+        MapSqlParameterSource p = w.params().addValue("S_START", S_START);
+        return jdbc.queryForObject("""
+                WITH u AS (
+                  SELECT user_key, start_count
+                    FROM public.admin_rollup_daily_user
+                   WHERE kst_date >= :rFrom AND kst_date < :rTo
+                  UNION ALL
+                  SELECT COALESCE(user_id::text, session_key),
+                         COUNT(*) FILTER (WHERE event_type = :S_START)
+                    FROM public.session_log
+                   WHERE created_at >= :tFrom AND created_at < :tTo
+                     AND COALESCE(user_id::text, session_key) IS NOT NULL
+                     AND COALESCE(user_id::text, session_key) <> ''
+                   GROUP BY COALESCE(user_id::text, session_key)
+                ),
+                per_user AS (
+                  SELECT user_key, SUM(start_count) AS starts
+                    FROM u
+                   GROUP BY user_key
+                )
+                SELECT COUNT(*) AS active_users,
+                       COUNT(*) FILTER (WHERE starts >= 2) AS returning_users
+                  FROM per_user
+                """, p, (rs, rowNum) -> new long[]{rs.getLong("active_users"), rs.getLong("returning_users")});
+    }
+
+    /**
+     * returning users(기간 내 START 2회 이상)만 센다.
+     * START가 없는 user 행은 GROUP BY 전에 걸러지므로 findUserStats처럼 전체 active user를 묶지 않는다.
+     */
+    private long findReturningUsers(Window w) {
+        MapSqlParameterSource p = w.params().addValue("S_START", S_START);
+        Long n = jdbc.queryForObject("""
+                WITH u AS (
+                  SELECT user_key, start_count
+                    FROM public.admin_rollup_daily_user
+                   WHERE kst_date >= :rFrom AND kst_date < :rTo
+                     AND start_count > 0
+                  UNION ALL
+                  SELECT COALESCE(user_id::text, session_key), COUNT(*)
+                    FROM public.session_log
+                   WHERE created_at >= :tFrom AND created_at < :tTo
+                     AND event_type = :S_START
+                     AND COALESCE(user_id::text, session_key) IS NOT NULL
+                     AND COALESCE(user_id::text, session_key) <> ''
+                   GROUP BY COALESCE(user_id::text, session_key)
+                )
+                SELECT COUNT(*) FROM (
+                  SELECT user_key
+                    FROM u
+                   GROUP BY user_key
+                  HAVING SUM(start_count) >= 2
+                ) r
+                """, p, Long.class);
+        return (n == null) ? 0L : n;
+    }
+
+    public List<DailySessionRow> findDailySessions(Window w) {
+        String sql = """
+                WITH ev AS (
+                  SELECT kst_date AS d,
+                         SUM(event_count) AS cnt,
+                         COALESCE(SUM(event_count) FILTER (WHERE event_type = :S_ERROR), 0) AS err
+                    FROM public.admin_rollup_daily_event
+                   WHERE source = 'SESSION'
+                     AND kst_date >= :rFrom AND kst_date < :rTo
+                   GROUP BY kst_date
+                  UNION ALL
+                  SELECT (created_at AT TIME ZONE '%1$s')::date,
+                         COUNT(*),
+                         COUNT(*) FILTER (WHERE event_type = :S_ERROR)
+                    FROM public.session_log
+                   WHERE created_at >= :tFrom AND created_at < :tTo
+                   GROUP BY 1
+                ),
+                uu AS (
+                  SELECT kst_date AS d, COUNT(*) AS users
+                    FROM public.admin_rollup_daily_user
+                   WHERE kst_date >= :rFrom AND kst_date < :rTo
+                   GROUP BY kst_date
+                  UNION ALL
+                  SELECT (created_at AT TIME ZONE '%1$s')::date,
+                         COUNT(DISTINCT COALESCE(user_id::text, session_key))
+                    FROM public.session_log
+                   WHERE created_at >= :tFrom AND created_at < :tTo
+                     AND COALESCE(user_id::text, session_key) IS NOT NULL
+                     AND COALESCE(user_id::text, session_key) <> ''
+                   GROUP BY 1
+                )
+                SELECT e.d,
+                       e.cnt AS session_event_count,
+                       COALESCE(u.users, 0) AS unique_user_count,
+                       e.err AS error_event_count
+                  FROM (SELECT d, SUM(cnt) AS cnt, SUM(err) AS err FROM ev GROUP BY d) e
+                  LEFT JOIN (SELECT d, SUM(users) AS users FROM uu GROUP BY d) u ON u.d = e.d
+                 ORDER BY e.d
+                """.formatted("Asia/Seoul");
+
+        return jdbc.query(sql, w.params().addValue("S_ERROR", S_ERROR), (rs, rowNum) -> toDailySessionRow(
+                rs.getObject("d", LocalDate.class),
+                rs.getLong("session_event_count"),
+                rs.getLong("unique_user_count"),
+                rs.getLong("error_event_count")
+        ));
+    }
+
+    public List<DailyClickRow> findDailyClicks(Window w) {
+        String sql = """
+                SELECT d, SUM(cnt) AS click_count
+                  FROM (
+                    SELECT kst_date AS d, SUM(event_count) AS cnt
+                      FROM public.admin_rollup_daily_event
+                     WHERE source = 'CLICK'
+                       AND kst_date >= :rFrom AND kst_date < :rTo
+                     GROUP BY kst_date
+                    UNION ALL
+                    SELECT (created_at AT TIME ZONE '%s')::date, COUNT(*)
+                      FROM public.item_click_log
+                     WHERE created_at >= :tFrom AND created_at < :tTo
+                     GROUP BY 1
+                  ) x
+                 GROUP BY d
+                 ORDER BY d
+                """.formatted("Asia/Seoul");
+
+        return jdbc.query(sql, w.params(), (rs, rowNum) ->
+                new DailyClickRow(rs.getObject("d", LocalDate.class), rs.getLong("click_count")));
+    }
+
+    public List<TopClickedItemRow> findTopClickedItems(Window w, int topN) {
+        String sql = """
+                WITH c AS (
+                  SELECT clothing_id, click_count AS cnt
+                    FROM public.admin_rollup_daily_item_click
+                   WHERE kst_date >= :rFrom AND kst_date < :rTo
+                  UNION ALL
+                  SELECT clothing_id, COUNT(*)
+                    FROM public.item_click_log
+                   WHERE created_at >= :tFrom AND created_at < :tTo
+                     AND clothing_id IS NOT NULL
+                   GROUP BY clothing_id
+                )
+                SELECT i.id AS item_id,
+                       COALESCE(i.name, '(unknown)') AS name,
+                       SUM(c.cnt) AS click_count
+                  FROM c
+                  JOIN public.clothing_item i
+                    ON i.clothing_id = c.clothing_id
+                 GROUP BY i.id, i.name
+                 ORDER BY click_count DESC
+                 LIMIT :topN
+                """;
+
+        return jdbc.query(sql, w.params().addValue("topN", topN), (rs, rowNum) ->
+                new TopClickedItemRow(rs.getLong("item_id"), rs.getString("name"), rs.getLong("click_count")));
+    }
+
+    private static long sumOf(Map<String, Long> counts, Collection<String> keys) {
+        long sum = 0;
+        for (String k : keys) sum += counts.getOrDefault(k, 0L);
+        return sum;
+    }
+}
@@ -0,0 +1,93 @@
+// src/main/java/com/team/backend/repository/admin/DistinctUserSketchJdbcRepository.java
+package com.team.backend.repository.admin;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * 일자별 distinct user HLL 스케치 저장소 + 스케치 빌드용 user key 스트리밍
+ * - user key = COALESCE(user_id::text, session_key) (빈 값 제외)
+ * - key 스트리밍은 fetch size 지정 template + RowCallbackHandler로 → 자바 쪽 메모리는 스케치 크기만큼만 사용
+ *   (PG 드라이버는 autocommit이면 fetch size를 무시하고 전부 버퍼링 → 호출부에서 트랜잭션 필요)
+ */
+@Repository
+public class DistinctUserSketchJdbcRepository {
+
+    /** 스트리밍 조회 fetch size (트랜잭션 안이면 PG 드라이버가 cursor로 나눠서 가져옴) */
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate streamJdbc;
+
+    public DistinctUserSketchJdbcRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+
+        JdbcTemplate cursor = new JdbcTemplate(Objects.requireNonNull(jdbc.getJdbcTemplate().getDataSource()));
+        cursor.setFetchSize(STREAM_FETCH_SIZE);
+        this.streamJdbc = new NamedParameterJdbcTemplate(cursor);
+    }
+
+    public void upsertSketch(LocalDate day, int precision, byte[] sketch) {
+        jdbc.update("""
+                INSERT INTO public.admin_rollup_daily_user_hll (kst_date, precision, sketch, updated_at)
+                VALUES (:day, :precision, :sketch, now())
+                ON CONFLICT (kst_date) DO UPDATE
+                   SET precision = EXCLUDED.precision,
+                       sketch = EXCLUDED.sketch,
+                       updated_at = now()
+                """, new MapSqlParameterSource()
+                .addValue("day", day)
+                .addValue("precision", precision)
+                .addValue("sketch", sketch));
+    }
+
+    /** [from, toExclusive) 일자별 스케치 */
+    public Map<LocalDate, byte[]> findSketches(LocalDate from, LocalDate toExclusive) {
+        Map<LocalDate, byte[]> out = new LinkedHashMap<>();
+        jdbc.query("""
+                SELECT kst_date, sketch
+                  FROM public.admin_rollup_daily_user_hll
+                 WHERE kst_date >= :from AND kst_date < :to
+                 ORDER BY kst_date
+                """, new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", toExclusive), (RowCallbackHandler) rs ->
+                out.put(rs.getObject("kst_date", LocalDate.class), rs.getBytes("sketch")));
+        return out;
+    }
+
+    /** rollup된 일자들의 user key (admin_rollup_daily_user) */
+    public void streamRollupUserKeys(Collection<LocalDate> days, Consumer<String> sink) {
+        if (days == null || days.isEmpty()) return;
+        streamJdbc.query("""
+                SELECT user_key
+                  FROM public.admin_rollup_daily_user
+                 WHERE kst_date IN (:days)
+                """, new MapSqlParameterSource("days", days), (RowCallbackHandler) rs -> sink.accept(rs.getString(1)));
+    }
+
+    /** raw session_log user key (rollup 안 된 tail 구간 / rollup 비활성) */
+    public void streamRawUserKeys(OffsetDateTime from, OffsetDateTime toExclusive, Consumer<String> sink) {
+        if (!from.isBefore(toExclusive)) return;
+        streamJdbc.query("""
+                SELECT COALESCE(user_id::text, session_key)
+                  FROM public.session_log
+                 WHERE created_at >= :from AND created_at < :to
+                   AND COALESCE(user_id::text, session_key) IS NOT NULL
+                   AND COALESCE(user_id::text, session_key) <> ''
+                """, new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", toExclusive), (RowCallbackHandler) rs -> sink.accept(rs.getString(1)));
+    }
+}
@@ -0,0 +1,101 @@
+// src/main/java/com/team/backend/repository/admin/RetentionActivityJdbcRepository.java
+package com.team.backend.repository.admin;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * user_key별 first_seen + 활동 bitmap (admin_retention_user_activity)
+ * - activity bit i = (first_seen + i)일 활동, 왼쪽이 0번 (PostgreSQL bit string set_bit 기준)
+ * - 갱신 소스는 admin_rollup_daily_user (rollup된 일자만), 당일 tail은 조회 시 raw로 보충
+ * - stream* 조회는 fetch size 지정 template 사용 (PG 드라이버는 autocommit이면 전부 버퍼링 → 호출부에서 트랜잭션 필요)
+ */
+@Repository
+public class RetentionActivityJdbcRepository {
+
+    /** 스트리밍 조회 fetch size (트랜잭션 안이면 PG 드라이버가 cursor로 나눠서 가져옴) */
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    private final NamedParameterJdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate streamJdbc;
+
+    public RetentionActivityJdbcRepository(NamedParameterJdbcTemplate jdbc) {
+        this.jdbc = jdbc;
+
+        JdbcTemplate cursor = new JdbcTemplate(Objects.requireNonNull(jdbc.getJdbcTemplate().getDataSource()));
+        cursor.setFetchSize(STREAM_FETCH_SIZE);
+        this.streamJdbc = new NamedParameterJdbcTemplate(cursor);
+    }
+
+    public record ActivityRow(String userKey, LocalDate firstSeen, String bits) {}
+
+    public record RawActivityRow(String userKey, LocalDate day) {}
+
+    /**
+     * 하루치 활동 반영 (멱등: 같은 일자를 다시 돌려도 bit만 다시 1로 set)
+     * - day < first_seen (늦게 들어온 과거 일자)면 앞쪽으로 bitmap 확장
+     */
+    public int applyDay(LocalDate day) {
+        return jdbc.update("""
+                INSERT INTO public.admin_retention_user_activity AS a (user_key, first_seen, last_seen, activity)
+                SELECT user_key, CAST(:day AS date), CAST(:day AS date), B'1'
+                  FROM public.admin_rollup_daily_user
+                 WHERE kst_date = :day
+                ON CONFLICT (user_key) DO UPDATE SET
+                  activity = CASE
+                    WHEN CAST(:day AS date) < a.first_seen THEN
+                      B'1' || lpad('', a.first_seen - CAST(:day AS date) - 1, '0')::varbit || a.activity
+                    ELSE
+                      set_bit(
+                        a.activity || lpad('', GREATEST(CAST(:day AS date) - a.first_seen + 1 - length(a.activity), 0), '0')::varbit,
+                        CAST(:day AS date) - a.first_seen,
+                        1)
+                  END,
+                  first_seen = LEAST(a.first_seen, CAST(:day AS date)),
+                  last_seen  = GREATEST(a.last_seen, CAST(:day AS date))
+                """, new MapSqlParameterSource("day", day));
+    }
+
+    /** [from, checkEnd)와 활동 구간이 겹치는 user만 스트리밍 */
+    public void streamActivity(LocalDate from, LocalDate checkEndExclusive, Consumer<ActivityRow> sink) {
+        streamJdbc.query("""
+                SELECT user_key, first_seen, activity::text AS bits
+                  FROM public.admin_retention_user_activity
+                 WHERE last_seen >= :from
+                   AND first_seen < :checkEnd
+                """, new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("checkEnd", checkEndExclusive), (RowCallbackHandler) rs -> sink.accept(new ActivityRow(
+                rs.getString("user_key"),
+                rs.getObject("first_seen", LocalDate.class),
+                rs.getString("bits")
+        )));
+    }
+
+    /** rollup 안 된 tail 구간의 (user_key, KST day) */
+    public void streamRawActivity(OffsetDateTime from, OffsetDateTime toExclusive, Consumer<RawActivityRow> sink) {
+        if (!from.isBefore(toExclusive)) return;
+        streamJdbc.query("""
+                SELECT DISTINCT
+                       COALESCE(user_id::text, session_key) AS user_key,
+                       (created_at AT TIME ZONE 'Asia/Seoul')::date AS d
+                  FROM public.session_log
+                 WHERE created_at >= :from AND created_at < :to
+                   AND COALESCE(user_id::text, session_key) IS NOT NULL
+                   AND COALESCE(user_id::text, session_key) <> ''
+                """, new MapSqlParameterSource()
+                .addValue("from", from)
+                .addValue("to", toExclusive), (RowCallbackHandler) rs -> sink.accept(new RawActivityRow(
+                rs.getString("user_key"),
+                rs.getObject("d", LocalDate.class)
+        )));
+    }
+}
@@ -1,40 +1,44 @@
 // src/main/java/com/team/backend/repository/checklist/ChecklistJdbcRepository.java
 package com.team.backend.repository.checklist;
 
+import com.team.backend.config.CacheNames;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
+/**
+ * 오늘 체크리스트 조회: checklist_daily_index (PK = session_key, kst_date)
+ * - recommendation_event_log 스캔 없이 PK 1건 조회
+ * - 있는 값만 캐시 (같은 날 값이 바뀌지 않음, KST 자정 만료)
+ */
 @Repository
 @RequiredArgsConstructor
 public class ChecklistJdbcRepository {
 
-    private static final String KST = "Asia/Seoul";
-    private static final String EVENT_CHECKLIST_SUBMITTED = "CHECKLIST_SUBMITTED";
-
     private final NamedParameterJdbcTemplate jdbc;
 
+    @Cacheable(
+            value = CacheNames.CHECKLIST_TODAY,
+            key = "#sessionKey + '|' + #kstDate",
+            unless = "#result == null"
+    )
     public UUID findTodayChecklistRecommendationId(String sessionKey, LocalDate kstDate) {
         String sql = """
             SELECT recommendation_id
-            FROM public.recommendation_event_log
+            FROM public.checklist_daily_index
             WHERE session_key = :sessionKey
-              AND event_type = :eventType
-              AND ((created_at AT TIME ZONE :kstZone)::date = :kstDate)
-              AND recommendation_id IS NOT NULL
-            ORDER BY created_at DESC, id DESC
-            LIMIT 1
+              AND kst_date = :kstDate
             """;
 
         MapSqlParameterSource p = new MapSqlParameterSource()
                 .addValue("sessionKey", sessionKey)
-                .addValue("eventType", EVENT_CHECKLIST_SUBMITTED)
-                .addValue("kstZone", KST)
                 .addValue("kstDate", kstDate);
 
         try {
@@ -43,4 +47,26 @@ public class ChecklistJdbcRepository {
             return null;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 오늘 체크리스트 선점 (멱등 보장)
+     * - 처음이면 insert 후 recoId 반환
+     * - 이미 있으면(동시 제출 포함) null 반환 → 호출부에서 기존 값 재조회
+     */
+    public UUID claimToday(String sessionKey, LocalDate kstDate, UUID recoId) {
+        String sql = """
+            INSERT INTO public.checklist_daily_index (session_key, kst_date, recommendation_id)
+            VALUES (:sessionKey, :kstDate, :recoId)
+            ON CONFLICT (session_key, kst_date) DO NOTHING
+            RETURNING recommendation_id
+            """;
+
+        MapSqlParameterSource p = new MapSqlParameterSource()
+                .addValue("sessionKey", sessionKey)
+                .addValue("kstDate", kstDate)
+                .addValue("recoId", recoId);
+
+        List<UUID> rows = jdbc.query(sql, p, (rs, rowNum) -> rs.getObject("recommendation_id", UUID.class));
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+}
@@ -8,4 +8,7 @@ import java.util.List;
 public interface ClosetItemQueryRepository {
     List<Long> findClothingIdsByClosetId(Long closetId);
     List<Long> findClothingIdsByClosetId(Long closetId, ClothingCategory category, int limit);
+
+    /** membership bitmap 적재용 (캐시 없음, 순서 무관) */
+    List<Long> findMemberIdsByClosetId(Long closetId);
 }
\ No newline at end of file
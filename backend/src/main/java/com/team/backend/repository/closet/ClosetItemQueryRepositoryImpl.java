@@ -1,9 +1,11 @@
 // src/main/java/com/team/backend/repository/closet/ClosetItemQueryRepositoryImpl.java
 package com.team.backend.repository.closet;
 
+import com.team.backend.config.CacheNames;
 import com.team.backend.domain.enums.ClothingCategory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Repository;
 
 import java.util.ArrayList;
@@ -18,6 +20,7 @@ public class ClosetItemQueryRepositoryImpl implements ClosetItemQueryRepository
     private EntityManager em;
 
     @Override
+    @Cacheable(value = CacheNames.CLOSET_ITEM_IDS, key = "#closetId", condition = "#closetId != null")
     public List<Long> findClothingIdsByClosetId(Long closetId) {
         if (closetId == null) return List.of();
 
@@ -34,10 +37,15 @@ public class ClosetItemQueryRepositoryImpl implements ClosetItemQueryRepository
 
         List<Long> out = new ArrayList<>(rows.size());
         for (Number n : rows) out.add(n.longValue());
-        return out;
+        return List.copyOf(out);
     }
 
     @Override
+    @Cacheable(
+            value = CacheNames.CLOSET_ITEM_IDS,
+            key = "#closetId + ':' + #category + ':' + #limit",
+            condition = "#closetId != null"
+    )
     public List<Long> findClothingIdsByClosetId(Long closetId, ClothingCategory category, int limit) {
         if (closetId == null) return List.of();
         int safeLimit = Math.max(1, Math.min(limit, LIMIT_MAX));
@@ -59,8 +67,27 @@ public class ClosetItemQueryRepositoryImpl implements ClosetItemQueryRepository
         @SuppressWarnings("unchecked")
         List<Number> rows = q.getResultList();
 
+        List<Long> out = new ArrayList<>(rows.size());
+        for (Number n : rows) out.add(n.longValue());
+        return List.copyOf(out);
+    }
+
+    @Override
+    public List<Long> findMemberIdsByClosetId(Long closetId) {
+        if (closetId == null) return List.of();
+
+        var q = em.createNativeQuery("""
+                SELECT ci.clothing_item_id
+                FROM public.closet_item ci
+                WHERE ci.closet_id = :closetId
+                """);
+        q.setParameter("closetId", closetId);
+
+        @SuppressWarnings("unchecked")
+        List<Number> rows = q.getResultList();
+
         List<Long> out = new ArrayList<>(rows.size());
         for (Number n : rows) out.add(n.longValue());
         return out;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+// src/main/java/com/team/backend/repository/clothing/ClothingCatalogJdbcRepository.java
+package com.team.backend.repository.clothing;
+
+import com.team.backend.domain.enums.ClothingCategory;
+import com.team.backend.domain.enums.ThicknessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * in-memory catalog index 적재용 (엔티티/seasons 없이 후보 검색에 필요한 컬럼만)
+ * + selected_count write-behind flush
+ */
+@Repository
+@RequiredArgsConstructor
+public class ClothingCatalogJdbcRepository {
+
+    private final JdbcTemplate jdbc;
+
+    public record CatalogRow(
+            long id,
+            long clothingId,
+            ClothingCategory category,
+            ThicknessLevel thicknessLevel,
+            int selectedCount,
+            long createdAtEpochMs
+    ) {}
+
+    public void streamAll(Consumer<CatalogRow> sink) {
+        jdbc.query("""
+                SELECT id, clothing_id, category, thickness_level, selected_count, created_at
+                  FROM public.clothing_item
+                """, (RowCallbackHandler) rs -> sink.accept(new CatalogRow(
+                rs.getLong("id"),
+                rs.getLong("clothing_id"),
+                ClothingCategory.valueOf(rs.getString("category")),
+                ThicknessLevel.valueOf(rs.getString("thickness_level")),
+                rs.getInt("selected_count"),
+                rs.getObject("created_at", OffsetDateTime.class).toInstant().toEpochMilli()
+        )));
+    }
+
+    /**
+     * selected_count 증가분 일괄 반영 (UPDATE ... FROM (VALUES ...) 1 statement)
+     * - id 오름차순으로 넣어 인스턴스 간 row lock 순서를 맞춤(deadlock 방지)
+     * - 그 사이 삭제된 id는 매칭 row가 없어 무시됨
+     */
+    public int addSelectedCounts(List<Map.Entry<Long, Long>> sortedDeltas) {
+        if (sortedDeltas == null || sortedDeltas.isEmpty()) return 0;
+
+        StringBuilder values = new StringBuilder();
+        Object[] args = new Object[sortedDeltas.size() * 2];
+        for (int i = 0; i < sortedDeltas.size(); i++) {
+            if (i > 0) values.append(", ");
+            values.append("(CAST(? AS bigint), CAST(? AS integer))");
+            args[i * 2] = sortedDeltas.get(i).getKey();
+            args[i * 2 + 1] = Math.toIntExact(sortedDeltas.get(i).getValue());
+        }
+
+        return jdbc.update("""
+                UPDATE public.clothing_item c
+                   SET selected_count = c.selected_count + v.delta
+                  FROM (VALUES %s) AS v(id, delta)
+                 WHERE c.id = v.id
+                """.formatted(values), args);
+    }
+}
@@ -5,7 +5,6 @@ import com.team.backend.domain.ClothingItem;
 import com.team.backend.domain.enums.ClothingCategory;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
-import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,8 +25,4 @@ public interface ClothingItemRepository extends JpaRepository<ClothingItem, Long
     List<ClothingItem> findAllByOrderBySelectedCountDesc(Pageable pageable);
 
     List<ClothingItem> findAllByCategoryOrderBySelectedCountDesc(ClothingCategory category, Pageable pageable);
-
-    @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("update ClothingItem c set c.selectedCount = c.selectedCount + 1 where c.id = :id")
-    int incrementSelectedCount(@Param("id") Long id);
 }
@@ -1,9 +1,12 @@
 package com.team.backend.repository.clothing;
 
 import com.team.backend.api.dto.clothingItem.ClothingItemRequestDto;
+import com.team.backend.domain.enums.ClothingCategory;
 import org.springframework.data.domain.Pageable;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 
 public interface ClothingItemRepositoryCustom {
 
@@ -14,4 +17,16 @@ public interface ClothingItemRepositoryCustom {
      * 반환: clothing_item PK(id)
      */
     List<Long> searchCandidateIdsInCloset(Long closetId, ClothingItemRequestDto.SearchCondition cond, Pageable pageable);
-}
\ No newline at end of file
+
+    /**
+     * category별 상위 perCategory개 후보를 1 쿼리로 (ROW_NUMBER() OVER (PARTITION BY category))
+     * - cond.category는 무시, closetId가 null이면 전역
+     * 반환: category → clothing_item PK(id) (정렬 순서 유지, 요청한 category는 빈 목록이라도 포함)
+     */
+    Map<ClothingCategory, List<Long>> searchTopCandidateIdsPerCategory(
+            Long closetId,
+            Collection<ClothingCategory> categories,
+            ClothingItemRequestDto.SearchCondition cond,
+            int perCategory
+    );
+}
@@ -2,13 +2,14 @@
 package com.team.backend.repository.clothing;
 
 import com.team.backend.api.dto.clothingItem.ClothingItemRequestDto;
+import com.team.backend.domain.enums.ClothingCategory;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.*;
 
 @Repository
 public class ClothingItemRepositoryImpl implements ClothingItemRepositoryCustom {
@@ -31,6 +32,51 @@ public class ClothingItemRepositoryImpl implements ClothingItemRepositoryCustom
         return searchNative(closetId, cond, pageable);
     }
 
+    @Override
+    public Map<ClothingCategory, List<Long>> searchTopCandidateIdsPerCategory(
+            Long closetId,
+            Collection<ClothingCategory> categories,
+            ClothingItemRequestDto.SearchCondition cond,
+            int perCategory
+    ) {
+        Map<ClothingCategory, List<Long>> out = new EnumMap<>(ClothingCategory.class);
+        if (categories == null || categories.isEmpty() || perCategory <= 0) return out;
+        for (ClothingCategory c : categories) out.put(c, new ArrayList<>());
+
+        // 정렬 기준은 searchNative와 동일, category별 상위 perCategory개만 (1 round trip)
+        String orderBy = isLatest(cond)
+                ? "ci.created_at DESC, ci.id DESC"
+                : "ci.selected_count DESC, ci.id DESC";
+
+        StringBuilder sql = new StringBuilder();
+        sql.append("""
+                SELECT t.id, t.category
+                FROM (
+                    SELECT ci.id, ci.category,
+                           ROW_NUMBER() OVER (PARTITION BY ci.category ORDER BY %s) AS rn
+                    FROM clothing_item ci
+                    WHERE ci.category IN (:categories)
+                """.formatted(orderBy));
+        appendFilters(sql, closetId, cond);
+        sql.append("""
+                ) t
+                WHERE t.rn <= :perCategory
+                ORDER BY t.category, t.rn
+                """);
+
+        var q = em.createNativeQuery(sql.toString());
+        q.setParameter("categories", categories.stream().map(Enum::name).toList());
+        q.setParameter("perCategory", perCategory);
+        bindFilters(q, closetId, cond);
+
+        @SuppressWarnings("unchecked")
+        List<Object[]> rows = q.getResultList();
+        for (Object[] row : rows) {
+            out.get(ClothingCategory.valueOf((String) row[1])).add(((Number) row[0]).longValue());
+        }
+        return out;
+    }
+
     /**
      * closetId가 null이면 전역 후보, 있으면 closet-only 후보
      * 반환: clothing_item PK(id)
@@ -47,6 +93,43 @@ public class ClothingItemRepositoryImpl implements ClothingItemRepositoryCustom
                 WHERE 1 = 1
                 """);
 
+        appendFilters(sql, closetId, cond);
+        if (cond != null && cond.getCategory() != null) {
+            sql.append(" AND ci.category = :category ");
+        }
+
+        // (C) 정렬
+        if (isLatest(cond)) {
+            sql.append(" ORDER BY ci.created_at DESC, ci.id DESC ");
+        } else {
+            sql.append(" ORDER BY ci.selected_count DESC, ci.id DESC ");
+        }
+
+        var q = em.createNativeQuery(sql.toString());
+        bindFilters(q, closetId, cond);
+        if (cond != null && cond.getCategory() != null) {
+            q.setParameter("category", cond.getCategory().name());
+        }
+
+        if (pageable != null) {
+            q.setFirstResult((int) pageable.getOffset());
+            q.setMaxResults(pageable.getPageSize());
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Number> rows = q.getResultList();
+
+        List<Long> out = new ArrayList<>(rows.size());
+        for (Number n : rows) {
+            out.add(n.longValue());
+        }
+        return out;
+    }
+
+    /**
+     * closet / clothingId / thickness 조건 (category는 호출부에서 단건 = 또는 IN으로 처리)
+     */
+    private void appendFilters(StringBuilder sql, Long closetId, ClothingItemRequestDto.SearchCondition cond) {
         // (A) closet-only 제한
         if (closetId != null) {
             sql.append("""
@@ -65,27 +148,15 @@ public class ClothingItemRepositoryImpl implements ClothingItemRepositoryCustom
             }
 
             // temp 조건 제거됨 (체크리스트에서 처리)
-            if (cond.getCategory() != null) {
-                sql.append(" AND ci.category = :category ");
-            }
-
             if (cond.getThicknessLevel() != null) {
                 sql.append(" AND ci.thickness_level = :thicknessLevel ");
             }
 
             // usage_type / season 관련 조건은 모두 제거됨
         }
+    }
 
-        // (C) 정렬
-        String sort = (cond == null || cond.getSort() == null) ? "popular" : cond.getSort();
-        if ("latest".equalsIgnoreCase(sort)) {
-            sql.append(" ORDER BY ci.created_at DESC, ci.id DESC ");
-        } else {
-            sql.append(" ORDER BY ci.selected_count DESC, ci.id DESC ");
-        }
-
-        var q = em.createNativeQuery(sql.toString());
-
+    private void bindFilters(Query q, Long closetId, ClothingItemRequestDto.SearchCondition cond) {
         if (closetId != null) {
             q.setParameter("closetId", closetId);
         }
@@ -95,27 +166,15 @@ public class ClothingItemRepositoryImpl implements ClothingItemRepositoryCustom
                 q.setParameter("clothingId", cond.getClothingId());
             }
             // temp 파라미터 바인딩 제거됨
-            if (cond.getCategory() != null) {
-                q.setParameter("category", cond.getCategory().name());
-            }
             if (cond.getThicknessLevel() != null) {
                 q.setParameter("thicknessLevel", cond.getThicknessLevel().name());
             }
             // usageTypes / seasons 파라미터 바인딩 제거됨
         }
+    }
 
-        if (pageable != null) {
-            q.setFirstResult((int) pageable.getOffset());
-            q.setMaxResults(pageable.getPageSize());
-        }
-
-        @SuppressWarnings("unchecked")
-        List<Number> rows = q.getResultList();
-
-        List<Long> out = new ArrayList<>(rows.size());
-        for (Number n : rows) {
-            out.add(n.longValue());
-        }
-        return out;
+    private static boolean isLatest(ClothingItemRequestDto.SearchCondition cond) {
+        String sort = (cond == null || cond.getSort() == null) ? "popular" : cond.getSort();
+        return "latest".equalsIgnoreCase(sort);
     }
-}
\ No newline at end of file
+}
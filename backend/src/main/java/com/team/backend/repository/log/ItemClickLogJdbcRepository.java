@@ -4,16 +4,18 @@ import com.team.backend.api.dto.log.ItemClickLogCreateRequestDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 @RequiredArgsConstructor
 public class ItemClickLogJdbcRepository {
 
     private final NamedParameterJdbcTemplate jdbc;
 
-    public void insert(ItemClickLogCreateRequestDto dto, String funnelStep) {
-        String sql = """
+    private static final String INSERT_SQL = """
             INSERT INTO public.item_click_log (
                 created_at,
                 session_key,
@@ -39,7 +41,24 @@ public class ItemClickLogJdbcRepository {
             )
             """;
 
-        MapSqlParameterSource p = new MapSqlParameterSource()
+    public void insert(ItemClickLogCreateRequestDto dto, String funnelStep) {
+        jdbc.update(INSERT_SQL, params(dto, funnelStep));
+    }
+
+    /**
+     * multi-row insert (JDBC batch, AsyncLogWriter flush용)
+     */
+    public void insertBatch(List<ClickRow> rows) {
+        if (rows == null || rows.isEmpty()) return;
+
+        SqlParameterSource[] batch = rows.stream()
+                .map(r -> params(r.dto(), r.funnelStep()))
+                .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate(INSERT_SQL, batch);
+    }
+
+    private MapSqlParameterSource params(ItemClickLogCreateRequestDto dto, String funnelStep) {
+        return new MapSqlParameterSource()
                 .addValue("createdAt", dto.getCreatedAt())
                 .addValue("sessionKey", dto.getSessionKey())
                 .addValue("userId", dto.getUserId())
@@ -48,7 +67,8 @@ public class ItemClickLogJdbcRepository {
                 .addValue("funnelStep", funnelStep)
                 .addValue("eventType", dto.getEventType())
                 .addValue("payloadJson", dto.payloadJsonOrNull());
+    }
 
-        jdbc.update(sql, p);
+    public record ClickRow(ItemClickLogCreateRequestDto dto, String funnelStep) {
     }
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+// src/main/java/com/team/backend/repository/log/LogCopyJdbcRepository.java
+package com.team.backend.repository.log;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team.backend.api.dto.log.RecommendationEventLogRequestDto;
+import com.team.backend.api.dto.log.SessionLogRequestDto;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 로그 테이블 bulk load (COPY ... FROM STDIN, CSV)
+ * - 파티션 parent 테이블로 COPY → created_at 기준으로 파티션 라우팅
+ * - createdAt null은 COPY 시각으로 채움 (COPY는 컬럼을 명시하면 DEFAULT now()가 적용되지 않음)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LogCopyJdbcRepository {
+
+    private static final ObjectMapper OM = new ObjectMapper();
+
+    private static final String COPY_ITEM_CLICK = """
+            COPY public.item_click_log (
+                created_at, session_key, user_id, recommendation_id, clothing_id, funnel_step, event_type, payload
+            ) FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String COPY_SESSION = """
+            COPY public.session_log (
+                created_at, session_key, user_id, event_type, payload
+            ) FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private static final String COPY_RECO_EVENT = """
+            COPY public.recommendation_event_log (
+                created_at, user_id, session_key, recommendation_id, funnel_step, event_type, payload
+            ) FROM STDIN WITH (FORMAT csv)
+            """;
+
+    private final DataSource dataSource;
+
+    public long copyItemClicks(List<ItemClickLogJdbcRepository.ClickRow> rows) {
+        if (rows == null || rows.isEmpty()) return 0;
+        OffsetDateTime now = OffsetDateTime.now();
+
+        StringBuilder csv = new StringBuilder(rows.size() * 256);
+        for (ItemClickLogJdbcRepository.ClickRow r : rows) {
+            var d = r.dto();
+            appendRow(csv,
+                    d.getCreatedAt() == null ? now : d.getCreatedAt(),
+                    d.getSessionKey(),
+                    d.getUserId(),
+                    d.getRecommendationUuid(),
+                    d.getClothingItemId(),
+                    r.funnelStep(),
+                    d.getEventType(),
+                    d.payloadJsonOrNull());
+        }
+        return copy(COPY_ITEM_CLICK, csv);
+    }
+
+    public long copySessionLogs(List<SessionLogRequestDto> rows) {
+        if (rows == null || rows.isEmpty()) return 0;
+        OffsetDateTime now = OffsetDateTime.now();
+
+        StringBuilder csv = new StringBuilder(rows.size() * 192);
+        for (SessionLogRequestDto d : rows) {
+            appendRow(csv,
+                    d.getCreatedAt() == null ? now : d.getCreatedAt(),
+                    d.getSessionKey(),
+                    d.getUserId(),
+                    d.getEventType(),
+                    d.getPayloadJson());
+        }
+        return copy(COPY_SESSION, csv);
+    }
+
+    public long copyRecommendationEvents(List<RecommendationEventLogRequestDto> rows) {
+        if (rows == null || rows.isEmpty()) return 0;
+        OffsetDateTime now = OffsetDateTime.now();
+
+        StringBuilder csv = new StringBuilder(rows.size() * 256);
+        for (RecommendationEventLogRequestDto d : rows) {
+            appendRow(csv,
+                    d.getCreatedAt() == null ? now : d.getCreatedAt(),
+                    d.getUserId(),
+                    d.getSessionKey(),
+                    d.getRecommendationId(),
+                    d.getFunnelStep(),
+                    d.getEventType(),
+                    toJsonOrEmpty(d.getPayload()));
+        }
+        return copy(COPY_RECO_EVENT, csv);
+    }
+
+    // ==============================
+    // helpers
+    // ==============================
+
+    private long copy(String sql, StringBuilder csv) {
+        Connection con = DataSourceUtils.getConnection(dataSource);
+        try {
+            return con.unwrap(PGConnection.class)
+                    .getCopyAPI()
+                    .copyIn(sql, new StringReader(csv.toString()));
+        } catch (SQLException | IOException e) {
+            throw new DataAccessResourceFailureException("COPY 실패: " + e.getMessage(), e);
+        } finally {
+            DataSourceUtils.releaseConnection(con, dataSource);
+        }
+    }
+
+    /**
+     * CSV 1행: null → 빈 칸(unquoted = NULL), 값은 항상 quote ("" escape)
+     */
+    private static void appendRow(StringBuilder sb, Object... cols) {
+        for (int i = 0; i < cols.length; i++) {
+            if (i > 0) sb.append(',');
+            Object v = cols[i];
+            if (v == null) continue;
+            sb.append('"').append(v.toString().replace("\"", "\"\"")).append('"');
+        }
+        sb.append('\n');
+    }
+
+    private static String toJsonOrEmpty(Map<String, Object> payload) {
+        if (payload == null || payload.isEmpty()) return "{}";
+        try {
+            return OM.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            return "{\"payloadSerializeError\":true}";
+        }
+    }
+}
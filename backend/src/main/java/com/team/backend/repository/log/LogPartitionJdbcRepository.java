@@ -0,0 +1,165 @@
+// src/main/java/com/team/backend/repository/log/LogPartitionJdbcRepository.java
+package com.team.backend.repository.log;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * 로그 테이블 월 파티션 DDL (KST 월 경계 +09)
+ * - 테이블/파티션 이름은 호출부 whitelist + YearMonth로만 만들어짐 (외부 입력 없음)
+ * - 기존 파티션은 이름이 아니라 pg_class.relpartbound 범위로 판단
+ *   (migration / 수동 스크립트가 만든 _YYYY_MM, UTC 경계 파티션도 그대로 인정)
+ * - 부모 테이블의 인덱스는 새 파티션에 자동 전파됨 (PostgreSQL 11+)
+ */
+@Repository
+@RequiredArgsConstructor
+public class LogPartitionJdbcRepository {
+
+    private static final DateTimeFormatter SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+
+    /** range 파티션 1개 (from/to가 null이면 MINVALUE/MAXVALUE) */
+    public record RangePartition(String name, OffsetDateTime from, OffsetDateTime to) {}
+
+    private final JdbcTemplate jdbc;
+
+    public static String partitionName(String table, YearMonth month) {
+        return table + "_" + month.format(SUFFIX);
+    }
+
+    /** 파티션 키 컬럼 (파티션 테이블이 아니면 null) */
+    public String partitionKeyColumn(String table) {
+        List<String> cols = jdbc.queryForList("""
+                SELECT a.attname
+                  FROM pg_partitioned_table pt
+                  JOIN pg_attribute a ON a.attrelid = pt.partrelid AND a.attnum = pt.partattrs[0]
+                 WHERE pt.partrelid = to_regclass(?)
+                """, String.class, "public." + table);
+        return cols.isEmpty() ? null : cols.get(0);
+    }
+
+    /** 여러 인스턴스가 동시에 DDL 돌지 않도록 (트랜잭션 종료 시 해제) */
+    public boolean tryXactLock(String table) {
+        Boolean ok = jdbc.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(hashtext(?))", Boolean.class, "log_partition:" + table);
+        return Boolean.TRUE.equals(ok);
+    }
+
+    // 구간 단위 savepoint (maintain 트랜잭션 안에서만 호출)
+    public void savepoint() {
+        jdbc.execute("SAVEPOINT log_partition_step");
+    }
+
+    public void releaseSavepoint() {
+        jdbc.execute("RELEASE SAVEPOINT log_partition_step");
+    }
+
+    public void rollbackToSavepoint() {
+        jdbc.execute("ROLLBACK TO SAVEPOINT log_partition_step");
+    }
+
+    public List<String> listPartitions(String table) {
+        return jdbc.queryForList("""
+                SELECT c.relname
+                  FROM pg_inherits i
+                  JOIN pg_class c ON c.oid = i.inhrelid
+                 WHERE i.inhparent = to_regclass(?)
+                 ORDER BY c.relname
+                """, String.class, "public." + table);
+    }
+
+    /** default를 제외한 range 파티션과 경계 (경계 해석은 PostgreSQL에 맡김) */
+    public List<RangePartition> listRangePartitions(String table) {
+        return jdbc.query("""
+                SELECT t.relname,
+                       (regexp_match(t.bound, 'FROM \\(''([^'']+)''\\)'))[1]::timestamptz AS range_from,
+                       (regexp_match(t.bound, 'TO \\(''([^'']+)''\\)'))[1]::timestamptz   AS range_to
+                  FROM (
+                        SELECT c.relname, pg_get_expr(c.relpartbound, c.oid) AS bound
+                          FROM pg_inherits i
+                          JOIN pg_class c ON c.oid = i.inhrelid
+                         WHERE i.inhparent = to_regclass(?)
+                       ) t
+                 WHERE t.bound <> 'DEFAULT'
+                 ORDER BY range_from NULLS FIRST
+                """, (rs, i) -> new RangePartition(
+                rs.getString("relname"),
+                rs.getObject("range_from", OffsetDateTime.class),
+                rs.getObject("range_to", OffsetDateTime.class)
+        ), "public." + table);
+    }
+
+    public void createPartition(String table, String name, OffsetDateTime from, OffsetDateTime to) {
+        jdbc.execute(String.format(
+                "CREATE TABLE public.%s PARTITION OF public.%s FOR VALUES FROM ('%s') TO ('%s')",
+                name, table, from, to));
+    }
+
+    /** default 파티션에 들어가 있는 row들의 KST 월 목록 */
+    public List<YearMonth> monthsInDefault(String table, String keyColumn) {
+        String defaultPartition = table + "_default";
+        if (!listPartitions(table).contains(defaultPartition)) return List.of();
+
+        return jdbc.queryForList(String.format("""
+                        SELECT DISTINCT date_trunc('month', %s AT TIME ZONE 'Asia/Seoul')::date
+                          FROM public.%s
+                        """, keyColumn, defaultPartition), LocalDate.class)
+                .stream()
+                .map(YearMonth::from)
+                .sorted()
+                .toList();
+    }
+
+    /**
+     * default에 잘못 들어간 [from, to) 구간을 정식 파티션으로 분리
+     * - 해당 범위 row가 default에 있으면 PARTITION OF 생성이 실패하므로
+     *   standalone 테이블 생성 → default에서 이동 → ATTACH 순서로 처리 (같은 트랜잭션)
+     * - 이동 전에 default를 SHARE ROW EXCLUSIVE로 잠금 → DELETE ~ ATTACH 사이에 같은 구간 row가
+     *   default로 새로 들어와 ATTACH의 default 재검사가 실패하는 것을 막음 (insert는 커밋까지 대기)
+     * @return 이동한 row 수
+     */
+    public int moveFromDefaultAndAttach(String table, String keyColumn, String name, OffsetDateTime from, OffsetDateTime to) {
+        jdbc.execute(String.format("LOCK TABLE public.%s_default IN SHARE ROW EXCLUSIVE MODE", table));
+
+        jdbc.execute(String.format(
+                "CREATE TABLE public.%s (LIKE public.%s INCLUDING DEFAULTS INCLUDING CONSTRAINTS)", name, table));
+
+        int moved = jdbc.update(String.format("""
+                WITH moved AS (
+                    DELETE FROM public.%s_default
+                     WHERE %s >= '%s' AND %s < '%s'
+                    RETURNING *
+                )
+                INSERT INTO public.%s SELECT * FROM moved
+                """, table, keyColumn, from, keyColumn, to, name));
+
+        jdbc.execute(String.format(
+                "ALTER TABLE public.%s ATTACH PARTITION public.%s FOR VALUES FROM ('%s') TO ('%s')",
+                table, name, from, to));
+        return moved;
+    }
+
+    /** 보관 기간 지난 파티션: DETACH 후 archive 스키마로 이동 (drop=true면 삭제) */
+    public void detachAndArchive(String table, String partition, String archiveSchema, boolean drop) {
+        jdbc.execute(String.format("ALTER TABLE public.%s DETACH PARTITION public.%s", table, partition));
+        if (drop) {
+            jdbc.execute(String.format("DROP TABLE public.%s", partition));
+            return;
+        }
+        jdbc.execute(String.format("CREATE SCHEMA IF NOT EXISTS %s", archiveSchema));
+        jdbc.execute(String.format("ALTER TABLE public.%s SET SCHEMA %s", partition, archiveSchema));
+    }
+
+    /** KST 월 시작 시각 (+09) */
+    public static OffsetDateTime kstStart(YearMonth month) {
+        return month.atDay(1).atStartOfDay(KST_ZONE).toOffsetDateTime();
+    }
+}
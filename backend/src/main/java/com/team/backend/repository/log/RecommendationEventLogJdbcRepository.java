@@ -7,8 +7,10 @@ import com.team.backend.api.dto.log.RecommendationEventLogRequestDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -20,21 +22,7 @@ public class RecommendationEventLogJdbcRepository {
 
     private static final ObjectMapper OM = new ObjectMapper();
 
-    /**
-     * ✅ 표준 insert (서비스에서 이 메서드만 호출하도록 고정)
-     * - createdAt null이면 DB now()로
-     * - payload null/blank면 {}
-     */
-    public void insert(RecommendationEventLogRequestDto dto) {
-        if (dto == null) throw new IllegalArgumentException("dto is null");
-        if (dto.getSessionKey() == null || dto.getSessionKey().isBlank()) {
-            throw new IllegalArgumentException("sessionKey is required");
-        }
-        if (dto.getEventType() == null || dto.getEventType().isBlank()) {
-            throw new IllegalArgumentException("eventType is required");
-        }
-
-        String sql = """
+    private static final String INSERT_SQL = """
             INSERT INTO public.recommendation_event_log (
               created_at,
               user_id,
@@ -55,18 +43,45 @@ public class RecommendationEventLogJdbcRepository {
             )
             """;
 
-        String payloadJson = toJsonOrEmpty(dto.getPayload());
+    /**
+     * ✅ 표준 insert (서비스에서 이 메서드만 호출하도록 고정)
+     * - createdAt null이면 DB now()로
+     * - payload null/blank면 {}
+     */
+    public void insert(RecommendationEventLogRequestDto dto) {
+        if (dto == null) throw new IllegalArgumentException("dto is null");
+        if (dto.getSessionKey() == null || dto.getSessionKey().isBlank()) {
+            throw new IllegalArgumentException("sessionKey is required");
+        }
+        if (dto.getEventType() == null || dto.getEventType().isBlank()) {
+            throw new IllegalArgumentException("eventType is required");
+        }
 
-        MapSqlParameterSource p = new MapSqlParameterSource()
+        jdbc.update(INSERT_SQL, params(dto));
+    }
+
+    /**
+     * multi-row insert (JDBC batch, AsyncLogWriter flush용)
+     * - 검증은 enqueue 전에 끝났다는 전제
+     */
+    public void insertBatch(List<RecommendationEventLogRequestDto> dtos) {
+        if (dtos == null || dtos.isEmpty()) return;
+
+        SqlParameterSource[] batch = dtos.stream()
+                .map(this::params)
+                .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate(INSERT_SQL, batch);
+    }
+
+    private MapSqlParameterSource params(RecommendationEventLogRequestDto dto) {
+        return new MapSqlParameterSource()
                 .addValue("createdAt", dto.getCreatedAt())
                 .addValue("userId", dto.getUserId())
                 .addValue("sessionKey", dto.getSessionKey())
                 .addValue("recommendationId", dto.getRecommendationId())
                 .addValue("funnelStep", dto.getFunnelStep()) // null 허용이면 스키마도 null 허용이어야 함
                 .addValue("eventType", dto.getEventType())
-                .addValue("payloadJson", payloadJson);
-
-        jdbc.update(sql, p);
+                .addValue("payloadJson", toJsonOrEmpty(dto.getPayload()));
     }
 
     /**
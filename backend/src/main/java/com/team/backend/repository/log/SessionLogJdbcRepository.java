@@ -4,16 +4,18 @@ import com.team.backend.api.dto.log.SessionLogRequestDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 @Repository
 @RequiredArgsConstructor
 public class SessionLogJdbcRepository {
 
     private final NamedParameterJdbcTemplate jdbc;
 
-    public void insert(SessionLogRequestDto dto) {
-        String sql = """
+    private static final String INSERT_SQL = """
             INSERT INTO public.session_log (
                 created_at,
                 session_key,
@@ -33,13 +35,28 @@ public class SessionLogJdbcRepository {
             )
             """;
 
-        MapSqlParameterSource p = new MapSqlParameterSource()
+    public void insert(SessionLogRequestDto dto) {
+        jdbc.update(INSERT_SQL, params(dto));
+    }
+
+    /**
+     * multi-row insert (JDBC batch, AsyncLogWriter flush용)
+     */
+    public void insertBatch(List<SessionLogRequestDto> dtos) {
+        if (dtos == null || dtos.isEmpty()) return;
+
+        SqlParameterSource[] batch = dtos.stream()
+                .map(this::params)
+                .toArray(SqlParameterSource[]::new);
+        jdbc.batchUpdate(INSERT_SQL, batch);
+    }
+
+    private MapSqlParameterSource params(SessionLogRequestDto dto) {
+        return new MapSqlParameterSource()
                 .addValue("createdAt", dto.getCreatedAt())
                 .addValue("sessionKey", dto.getSessionKey())
                 .addValue("userId", dto.getUserId())
                 .addValue("eventType", dto.getEventType())
                 .addValue("payloadJson", dto.getPayloadJson());
-
-        jdbc.update(sql, p);
     }
 }
\ No newline at end of file
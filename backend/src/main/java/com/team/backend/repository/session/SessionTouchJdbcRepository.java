@@ -0,0 +1,53 @@
+// src/main/java/com/team/backend/repository/session/SessionTouchJdbcRepository.java
+package com.team.backend.repository.session;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+@RequiredArgsConstructor
+public class SessionTouchJdbcRepository {
+
+    private final JdbcTemplate jdbc;
+
+    /**
+     * last_seen_at 일괄 upsert (unnest 1 statement)
+     * - 키 정렬 순서로 넣어 인스턴스 간 row lock 순서를 맞춤(deadlock 방지)
+     * - 늦게 도착한 flush가 last_seen_at을 과거로 되돌리지 않도록 GREATEST
+     */
+    public int batchTouch(List<Map.Entry<String, OffsetDateTime>> sortedTouches) {
+        if (sortedTouches == null || sortedTouches.isEmpty()) return 0;
+
+        String sql = """
+            INSERT INTO public.session (session_key, created_at, last_seen_at)
+            SELECT t.session_key, t.seen_at, t.seen_at
+              FROM unnest(?::varchar[], ?::timestamptz[]) AS t(session_key, seen_at)
+            ON CONFLICT (session_key)
+            DO UPDATE SET last_seen_at = GREATEST(public.session.last_seen_at, EXCLUDED.last_seen_at)
+            """;
+
+        String[] keys = new String[sortedTouches.size()];
+        Timestamp[] seenAts = new Timestamp[sortedTouches.size()];
+        for (int i = 0; i < sortedTouches.size(); i++) {
+            keys[i] = sortedTouches.get(i).getKey();
+            seenAts[i] = Timestamp.from(sortedTouches.get(i).getValue().toInstant());
+        }
+
+        return jdbc.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql);
+            Array keyArr = con.createArrayOf("varchar", keys);
+            Array tsArr = con.createArrayOf("timestamptz", seenAts);
+            ps.setArray(1, keyArr);
+            ps.setArray(2, tsArr);
+            return ps;
+        });
+    }
+}
@@ -5,33 +5,62 @@ import com.team.backend.api.dto.admin.dashboard.DashboardMonthlyResponseDto;
 import com.team.backend.api.dto.admin.dashboard.DashboardMonthlyRowResponseDto;
 import com.team.backend.common.time.TimeRanges;
 import com.team.backend.repository.admin.DashboardMonthlyJdbcRepository;
-import lombok.RequiredArgsConstructor;
 import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
 import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
 
 @Service
-@RequiredArgsConstructor
 public class DashboardMonthlyAdminService {
 
-    private static final String REGION = "Seoul";
+    private static final String REGION = DashboardMonthlySnapshotService.REGION;
     private static final DateTimeFormatter FILE_TS = DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss");
 
+    public static final String XLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+    private static final String[] KPI_HEADERS = {
+            "month",
+            "startedSessions", "endedSessions", "sessionEndRate",
+            "errorEvents",
+            "totalSessionEvents", "totalSessions", "uniqueUsers", "avgSessionsPerUser",
+            "totalClicks", "totalRecoEvents",
+            "recoEmpty", "recoGenerated", "recoEmptyRate"
+    };
+    private static final String[] TOP_HEADERS = {"month", "rank", "clothingItemId", "name", "clickCount", "clickRatio"};
+
     private final DashboardMonthlyJdbcRepository repo;
+    private final boolean streaming;
+    private final int rowWindow;
+
+    public DashboardMonthlyAdminService(
+            DashboardMonthlyJdbcRepository repo,
+            @Value("${admin.monthly.excel.streaming:true}") boolean streaming,
+            @Value("${admin.monthly.excel.row-window:100}") int rowWindow
+    ) {
+        this.repo = repo;
+        this.streaming = streaming;
+        this.rowWindow = Math.max(rowWindow, 1);
+    }
 
     /**
-     * 월별 KPI + TopClicked 스냅샷을 "조회 시점"에 갱신(upsert/refresh)한 뒤 반환
-     * - 집계 소스(session_log vs session)는 repo SQL이 결정한다.
+     * 월별 KPI + TopClicked 스냅샷 조회 (select only)
+     * - 스냅샷 계산/확정은 DashboardMonthlySnapshotService(스케줄러) 담당
+     * - 아직 스냅샷이 없는 월은 rows에서 빠짐 (다음 스냅샷 잡에서 채워짐)
      */
-@Transactional
+@Transactional(readOnly = true)
 public DashboardMonthlyResponseDto getMonthly(YearMonth fromMonth, YearMonth toMonth, int topN) {
     if (fromMonth == null || toMonth == null) {
         throw new IllegalArgumentException("fromMonth/toMonth는 필수입니다.");
@@ -42,27 +71,16 @@ public DashboardMonthlyResponseDto getMonthly(YearMonth fromMonth, YearMonth toM
     if (topN < 0) {
         throw new IllegalArgumentException("topN은 0 이상이어야 합니다.");
     }
+    int resolvedTopN = Math.min(topN, DashboardMonthlySnapshotService.SNAPSHOT_TOP_N);
 
-    // 1) 월별 스냅샷 upsert + topN 스냅샷 refresh
-    var cursor = fromMonth;
-    while (!cursor.isAfter(toMonth)) {
-        var range = TimeRanges.month(cursor); // KST fromInclusive/toExclusive
-        LocalDate monthStart = cursor.atDay(1);
-
-        repo.upsertMonthlyKpi(monthStart, REGION, range.fromInclusive(), range.toExclusive());
-        repo.refreshMonthlyTopClicked(monthStart, REGION, range.fromInclusive(), range.toExclusive(), topN);
-
-        cursor = cursor.plusMonths(1);
-    }
-
-    // 2) rows 조회
+    // 1) rows 조회 (스냅샷)
     LocalDate fromStart = fromMonth.atDay(1);
     LocalDate toStart = toMonth.atDay(1);
 
     List<DashboardMonthlyRowResponseDto> baseRows = repo.fetchMonthlyRows(fromStart, toStart, REGION);
 
-    // 3) topClicked month별 그룹핑 -> row에 붙이기
-    var topClickedRows = repo.fetchMonthlyTopClicked(fromStart, toStart, REGION, topN);
+    // 2) topClicked month별 그룹핑 -> row에 붙이기
+    var topClickedRows = repo.fetchMonthlyTopClicked(fromStart, toStart, REGION, resolvedTopN);
     Map<String, List<DashboardMonthlyRowResponseDto.TopClickedItem>> topMap = new HashMap<>();
 
     for (var r : topClickedRows) {
@@ -77,7 +95,7 @@ public DashboardMonthlyResponseDto getMonthly(YearMonth fromMonth, YearMonth toM
         );
     }
 
-    // ✅ 4) funnel + topClicked 같이 붙여서 rows 생성
+    // ✅ 3) funnel + topClicked 같이 붙여서 rows 생성
     List<DashboardMonthlyRowResponseDto> rows = baseRows.stream()
         .map(r -> new DashboardMonthlyRowResponseDto(
                 r.month(),
@@ -101,7 +119,7 @@ public DashboardMonthlyResponseDto getMonthly(YearMonth fromMonth, YearMonth toM
 
 
 
-    // 5) meta
+    // 4) meta
     var generatedAt = repo.getLatestGeneratedAt(fromStart, toStart, REGION);
     if (generatedAt == null) generatedAt = TimeRanges.nowKst();
 
@@ -112,32 +130,157 @@ public DashboardMonthlyResponseDto getMonthly(YearMonth fromMonth, YearMonth toM
     );
 }
 
-    @Transactional
-    public ExcelExport exportMonthlyExcel(YearMonth fromMonth, YearMonth toMonth, int topN) {
-        DashboardMonthlyResponseDto dto = getMonthly(fromMonth, toMonth, topN);
+    // ==============================
+    // streaming export
+    // ==============================
 
-        byte[] bytes = buildExcel(dto);
-        String ts = dto.meta().generatedAt().toLocalDateTime().format(FILE_TS);
-        String filename = "monthly_kpi_" + dto.range().fromMonth() + "_to_" + dto.range().toMonth() + "_" + ts + ".xlsx";
+    /** 스트리밍 응답은 헤더를 먼저 보내야 해서 파일명만 따로 계산 */
+    @Transactional(readOnly = true)
+    public String monthlyExcelFilename(YearMonth fromMonth, YearMonth toMonth) {
+        validateRange(fromMonth, toMonth);
+        var generatedAt = repo.getLatestGeneratedAt(fromMonth.atDay(1), toMonth.atDay(1), REGION);
+        if (generatedAt == null) generatedAt = TimeRanges.nowKst();
 
-        return new ExcelExport(
-                filename,
-                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet",
-                bytes
-        );
+        String ts = generatedAt.toLocalDateTime().format(FILE_TS);
+        return "monthly_kpi_" + fromMonth + "_to_" + toMonth + "_" + ts + ".xlsx";
+    }
+
+    /**
+     * 응답 body(out)로 바로 write
+     * - streaming=true: SXSSF(rowWindow행만 메모리 유지) + top_clicked는 DB cursor로 row 단위 write
+     *   열 너비는 autoSizeColumn 대신 write하면서 잰 최대 글자수로 계산
+     * - streaming=false: 기존 XSSF 방식(전체 workbook을 메모리에서 만든 뒤 write)
+     * - readOnly 트랜잭션 → PG cursor fetch 사용 가능
+     */
+    @Transactional(readOnly = true)
+    public void writeMonthlyExcel(YearMonth fromMonth, YearMonth toMonth, int topN, OutputStream out) throws IOException {
+        if (!streaming) {
+            out.write(buildExcel(getMonthly(fromMonth, toMonth, topN)));
+            return;
+        }
+
+        validateRange(fromMonth, toMonth);
+        int resolvedTopN = Math.max(0, Math.min(topN, DashboardMonthlySnapshotService.SNAPSHOT_TOP_N));
+        LocalDate fromStart = fromMonth.atDay(1);
+        LocalDate toStart = toMonth.atDay(1);
+
+        SXSSFWorkbook wb = new SXSSFWorkbook(rowWindow);
+        wb.setCompressTempFiles(true);
+        try {
+            // Sheet 1) KPI (월당 1행)
+            SXSSFSheet sheet = wb.createSheet("monthly_kpi");
+            ColumnWidths widths = new ColumnWidths(KPI_HEADERS.length);
+            writeHeader(sheet, KPI_HEADERS, widths);
+
+            int rIdx = 1;
+            for (var r : repo.fetchMonthlyRows(fromStart, toStart, REGION)) {
+                Row row = sheet.createRow(rIdx++);
+                int c = 0;
+
+                widths.text(row, c++, r.month());
+
+                widths.number(row, c++, r.startedSessions());
+                widths.number(row, c++, r.endedSessions());
+                widths.number(row, c++, r.sessionEndRate());
+
+                widths.number(row, c++, r.errorEvents());
+
+                widths.number(row, c++, r.totalSessionEvents());
+                widths.number(row, c++, r.totalSessions());
+                widths.number(row, c++, r.uniqueUsers());
+                widths.number(row, c++, r.avgSessionsPerUser());
+
+                widths.number(row, c++, r.totalClicks());
+                widths.number(row, c++, r.totalRecoEvents());
+
+                widths.number(row, c++, r.recoEmpty());
+                widths.number(row, c++, r.recoGenerated());
+                widths.number(row, c++, r.recoEmptyRate());
+            }
+            widths.apply(sheet);
+
+            // Sheet 2) Top Clicked (DB에서 row 단위로 받아 바로 write)
+            SXSSFSheet sheet2 = wb.createSheet("top_clicked");
+            ColumnWidths widths2 = new ColumnWidths(TOP_HEADERS.length);
+            writeHeader(sheet2, TOP_HEADERS, widths2);
+
+            int[] r2 = {1};
+            repo.streamMonthlyTopClicked(fromStart, toStart, REGION, resolvedTopN, item -> {
+                Row row = sheet2.createRow(r2[0]++);
+                int c = 0;
+                widths2.text(row, c++, item.month());
+                widths2.number(row, c++, item.rank());
+                widths2.number(row, c++, item.itemId());
+                widths2.text(row, c++, item.name());
+                widths2.number(row, c++, item.clickCount());
+                widths2.number(row, c++, item.clickRatio());
+            });
+            widths2.apply(sheet2);
+
+            wb.write(out);
+            out.flush();
+        } finally {
+            wb.dispose();
+            wb.close();
+        }
+    }
+
+    private static void validateRange(YearMonth fromMonth, YearMonth toMonth) {
+        if (fromMonth == null || toMonth == null) {
+            throw new IllegalArgumentException("fromMonth/toMonth는 필수입니다.");
+        }
+        if (fromMonth.isAfter(toMonth)) {
+            throw new IllegalArgumentException("fromMonth는 toMonth보다 클 수 없습니다.");
+        }
+    }
+
+    private static void writeHeader(Sheet sheet, String[] headers, ColumnWidths widths) {
+        Row h = sheet.createRow(0);
+        for (int i = 0; i < headers.length; i++) widths.text(h, i, headers[i]);
+    }
+
+    /**
+     * write하면서 열별 최대 표시 폭 추적 (autoSizeColumn은 SXSSF에서 flush된 행을 못 보고, XSSF에서도 느림)
+     * - 비 ASCII(한글 등)는 2칸으로 계산
+     */
+    private static final class ColumnWidths {
+
+        private static final int MAX_CHARS = 80;
+
+        private final int[] chars;
+
+        ColumnWidths(int columns) {
+            this.chars = new int[columns];
+        }
+
+        void text(Row row, int col, String value) {
+            row.createCell(col).setCellValue(value);
+            track(col, value);
+        }
+
+        void number(Row row, int col, double value) {
+            row.createCell(col).setCellValue(value);
+            track(col, (value == Math.rint(value)) ? Long.toString((long) value) : Double.toString(value));
+        }
+
+        private void track(int col, String value) {
+            if (value == null) return;
+            int w = 0;
+            for (int i = 0; i < value.length(); i++) w += (value.charAt(i) < 0x80) ? 1 : 2;
+            if (w > chars[col]) chars[col] = w;
+        }
+
+        void apply(Sheet sheet) {
+            for (int i = 0; i < chars.length; i++) {
+                sheet.setColumnWidth(i, (Math.min(chars[i], MAX_CHARS) + 2) * 256);
+            }
+        }
     }
 
     private byte[] buildExcel(DashboardMonthlyResponseDto dto) {
         var rows = dto.rows();
 
-        String[] headers = {
-                "month",
-                "startedSessions", "endedSessions", "sessionEndRate",
-                "errorEvents",
-                "totalSessionEvents", "totalSessions", "uniqueUsers", "avgSessionsPerUser",
-                "totalClicks", "totalRecoEvents",
-                "recoEmpty", "recoGenerated", "recoEmptyRate"
-        };
+        String[] headers = KPI_HEADERS;
 
         try (Workbook wb = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
 
@@ -175,7 +318,7 @@ public DashboardMonthlyResponseDto getMonthly(YearMonth fromMonth, YearMonth toM
 
             // Sheet 2) Top Clicked
             var sheet2 = wb.createSheet("top_clicked");
-            String[] headers2 = {"month", "rank", "clothingItemId", "name", "clickCount", "clickRatio"};
+            String[] headers2 = TOP_HEADERS;
             Row h2 = sheet2.createRow(0);
             for (int i = 0; i < headers2.length; i++) h2.createCell(i).setCellValue(headers2[i]);
 
@@ -201,5 +344,4 @@ public DashboardMonthlyResponseDto getMonthly(YearMonth fromMonth, YearMonth toM
         }
     }
 
-    public record ExcelExport(String filename, String contentType, byte[] bytes) {}
 }
\ No newline at end of file
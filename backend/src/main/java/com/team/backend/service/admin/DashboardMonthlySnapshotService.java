@@ -0,0 +1,133 @@
+// src/main/java/com/team/backend/service/admin/DashboardMonthlySnapshotService.java
+package com.team.backend.service.admin;
+
+import com.team.backend.common.time.TimeRanges;
+import com.team.backend.repository.admin.DashboardMonthlyJdbcRepository;
+import com.team.backend.repository.admin.DashboardRollupJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.*;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * admin_monthly_kpi / admin_monthly_top_clicked_item 스냅샷 갱신 잡
+ * - 마감 월(다음 달 1일 + graceDays 경과): 1회 계산 후 is_final=true로 고정
+ * - 당월(또는 grace 중인 월): generated_at이 staleSeconds보다 오래됐을 때만 재계산
+ * - 스냅샷이 없는 과거 월은 가장 이른 로그 월부터 maxMonthsPerRun개씩 backfill
+ * - 조회(DashboardMonthlyAdminService)는 스냅샷 select만 수행
+ */
+@Slf4j
+@Service
+public class DashboardMonthlySnapshotService {
+
+    static final String REGION = "Seoul";
+
+    /** topN 조회 상한(컨트롤러 MAX_TOP_N)만큼 저장 → 조회 시 rank_no <= topN 으로 잘라 씀 */
+    static final int SNAPSHOT_TOP_N = 50;
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final DashboardMonthlyJdbcRepository repo;
+    private final DashboardRollupJdbcRepository rollupRepo;
+    private final DashboardRollupService rollupService;
+    private final DistinctUserCounter distinctUserCounter;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final long staleSeconds;
+    private final int graceDays;
+    private final int maxMonthsPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public DashboardMonthlySnapshotService(
+            DashboardMonthlyJdbcRepository repo,
+            DashboardRollupJdbcRepository rollupRepo,
+            DashboardRollupService rollupService,
+            DistinctUserCounter distinctUserCounter,
+            TransactionTemplate transactionTemplate,
+            @Value("${admin.monthly.snapshot.enabled:true}") boolean enabled,
+            @Value("${admin.monthly.snapshot.stale-seconds:900}") long staleSeconds,
+            @Value("${admin.monthly.snapshot.grace-days:1}") int graceDays,
+            @Value("${admin.monthly.snapshot.max-months-per-run:12}") int maxMonthsPerRun
+    ) {
+        this.repo = repo;
+        this.rollupRepo = rollupRepo;
+        this.rollupService = rollupService;
+        this.distinctUserCounter = distinctUserCounter;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.staleSeconds = staleSeconds;
+        this.graceDays = Math.max(graceDays, 0);
+        this.maxMonthsPerRun = Math.max(maxMonthsPerRun, 1);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        refresh();
+    }
+
+    @Scheduled(cron = "${admin.monthly.snapshot.cron:0 */5 * * * *}", zone = "Asia/Seoul")
+    public void refresh() {
+        if (!enabled) return;
+        if (!running.compareAndSet(false, true)) {
+            log.info("[ADMIN][MONTHLY] 이전 실행 진행 중 → skip");
+            return;
+        }
+
+        try {
+            ZonedDateTime now = ZonedDateTime.now(KST);
+            YearMonth current = YearMonth.from(now);
+            YearMonth earliest = rollupRepo.findEarliestLogDate().map(YearMonth::from).orElse(current);
+            if (earliest.isAfter(current)) earliest = current;
+
+            Map<LocalDate, DashboardMonthlyJdbcRepository.SnapshotState> states =
+                    repo.findSnapshotStates(earliest.atDay(1), current.atDay(1), REGION);
+
+            int computed = 0;
+            for (YearMonth m = earliest; !m.isAfter(current) && computed < maxMonthsPerRun; m = m.plusMonths(1)) {
+                var state = states.get(m.atDay(1));
+                if (state != null && state.isFinal()) continue;
+
+                boolean closed = !now.isBefore(m.plusMonths(1).atDay(1).plusDays(graceDays).atStartOfDay(KST));
+                if (!closed && state != null && !isStale(state.generatedAt(), now)) continue;
+
+                long start = System.currentTimeMillis();
+                compute(m, closed);
+                computed++;
+                log.info("[ADMIN][MONTHLY] snapshot month={} final={} elapsedMs={}",
+                        m, closed, System.currentTimeMillis() - start);
+            }
+        } catch (Exception e) {
+            log.warn("[ADMIN][MONTHLY] snapshot 실패: {}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private void compute(YearMonth month, boolean finalize) {
+        var range = TimeRanges.month(month);
+        LocalDate monthStart = month.atDay(1);
+
+        Long approxUniqueUsers = (distinctUserCounter.resolve(null) == DistinctUserCounter.Mode.APPROX)
+                ? distinctUserCounter.estimate(monthStart, month.plusMonths(1).atDay(1), rollupService.rolledUntil())
+                : null;
+
+        transactionTemplate.executeWithoutResult(status -> {
+            repo.upsertMonthlyKpi(monthStart, REGION, range.fromInclusive(), range.toExclusive(), approxUniqueUsers);
+            repo.refreshMonthlyTopClicked(monthStart, REGION, range.fromInclusive(), range.toExclusive(), SNAPSHOT_TOP_N);
+            if (finalize) repo.markFinal(monthStart, REGION);
+        });
+    }
+
+    private boolean isStale(OffsetDateTime generatedAt, ZonedDateTime now) {
+        return generatedAt == null || generatedAt.plusSeconds(staleSeconds).isBefore(now.toOffsetDateTime());
+    }
+}
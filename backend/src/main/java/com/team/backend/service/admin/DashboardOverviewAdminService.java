@@ -3,6 +3,7 @@ package com.team.backend.service.admin;
 
 import com.team.backend.api.dto.admin.dashboard.DashboardOverviewResponseDto;
 import com.team.backend.repository.admin.DashboardOverviewJdbcRepository;
+import com.team.backend.repository.admin.DashboardRollupJdbcRepository;
 import com.team.backend.repository.admin.DashboardRetentionJdbcRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -22,14 +23,28 @@ public class DashboardOverviewAdminService {
 
     private final DashboardOverviewJdbcRepository overviewRepo;
     private final DashboardRetentionJdbcRepository retentionRepo;
+    private final DashboardRollupJdbcRepository rollupRepo;
+    private final DashboardRollupService rollupService;
+    private final DistinctUserCounter distinctUserCounter;
+    private final RetentionEngine retentionEngine;
 
     /**
      * from/to: inclusive (컨트롤러에서 받는 그대로)
      * 내부 집계:
      * - overview: [from, to+1day)
      * - retention: d+1 체크 때문에 [from, (to+1day)+1day) 까지 필요
+     *   (rollup 활성 시 RetentionEngine: 활동 bitmap 1회 스캔으로 D1/D7/D30)
      */
     public DashboardOverviewResponseDto getOverview(LocalDate fromInclusive, LocalDate toInclusive, int topN) {
+        return getOverview(fromInclusive, toInclusive, topN, null);
+    }
+
+    /**
+     * @param uniqueMode unique users 집계 방식 (null이면 admin.distinct.mode)
+     *                   APPROX여도 returning rate는 유저별 START 횟수가 필요해서 exact 유지
+     */
+    public DashboardOverviewResponseDto getOverview(LocalDate fromInclusive, LocalDate toInclusive, int topN,
+                                                    DistinctUserCounter.Mode uniqueMode) {
         if (fromInclusive == null || toInclusive == null) {
             throw new IllegalArgumentException("from/to는 필수입니다.");
         }
@@ -46,32 +61,79 @@ public class DashboardOverviewAdminService {
         OffsetDateTime toExclusiveKst = toExclusiveDate.atStartOfDay(KST).toOffsetDateTime();
 
         // 1) Overview
-        var summaryRow = overviewRepo.findSummary(fromKst, toExclusiveKst);
-        var dailySessionsRow = overviewRepo.findDailySessions(fromKst, toExclusiveKst);
-        var dailyClicksRow = overviewRepo.findDailyClicks(fromKst, toExclusiveKst);
-        var topClickedRow = (resolvedTopN == 0)
-                ? List.<DashboardOverviewJdbcRepository.TopClickedItemRow>of()
-                : overviewRepo.findTopClickedItems(fromKst, toExclusiveKst, resolvedTopN);
-
-        // 2) D1 Retention (요약 + 트렌드)
-        OffsetDateTime toExclusivePlus1 = toExclusiveKst.plusDays(1);
-
-        var d1 = retentionRepo.fetchD1Retention(fromKst, toExclusivePlus1);
-        long eligible = (d1 == null) ? 0 : d1.eligibleUsers();
-        long retained = (d1 == null) ? 0 : d1.retainedUsers();
-        double d1Rate = (eligible == 0) ? 0.0 : round2(retained * 100.0 / eligible);
-
-        var d1Summary = new DashboardOverviewResponseDto.D1RetentionSummary(eligible, retained, d1Rate);
-
-        List<DashboardOverviewResponseDto.DailyD1Retention> d1Trend =
-                retentionRepo.fetchD1Trend(fromKst, toExclusivePlus1).stream()
-                        .map(r -> new DashboardOverviewResponseDto.DailyD1Retention(
-                                r.date(),
-                                r.baseUsers(),
-                                r.retainedUsers(),
-                                r.d1RetentionRate()
-                        ))
-                        .toList();
+        DashboardOverviewJdbcRepository.SummaryRow summaryRow;
+        List<DashboardOverviewJdbcRepository.DailySessionRow> dailySessionsRow;
+        List<DashboardOverviewJdbcRepository.DailyClickRow> dailyClicksRow;
+        List<DashboardOverviewJdbcRepository.TopClickedItemRow> topClickedRow;
+
+        LocalDate rolledUntil = rollupService.rolledUntil();
+        Long approxUniqueUsers = (distinctUserCounter.resolve(uniqueMode) == DistinctUserCounter.Mode.APPROX)
+                ? distinctUserCounter.estimate(fromInclusive, toExclusiveDate, rolledUntil)
+                : null;
+
+        if (rollupService.isEnabled()) {
+            // rollup [from, rolledUntil) + raw tail [rolledUntil, to)
+            var window = DashboardRollupJdbcRepository.Window.of(fromInclusive, toExclusiveDate, rolledUntil);
+
+            // APPROX면 전체 per-user 집계를 건너뛰고 returning user만 따로 센다
+            summaryRow = rollupRepo.findSummary(window, approxUniqueUsers);
+            dailySessionsRow = rollupRepo.findDailySessions(window);
+            dailyClicksRow = rollupRepo.findDailyClicks(window);
+            topClickedRow = (resolvedTopN == 0)
+                    ? List.of()
+                    : rollupRepo.findTopClickedItems(window, resolvedTopN);
+        } else {
+            summaryRow = overviewRepo.findSummary(fromKst, toExclusiveKst, approxUniqueUsers);
+            dailySessionsRow = overviewRepo.findDailySessions(fromKst, toExclusiveKst);
+            dailyClicksRow = overviewRepo.findDailyClicks(fromKst, toExclusiveKst);
+            topClickedRow = (resolvedTopN == 0)
+                    ? List.of()
+                    : overviewRepo.findTopClickedItems(fromKst, toExclusiveKst, resolvedTopN);
+        }
+
+        // 2) Retention (요약 + 트렌드)
+        DashboardOverviewResponseDto.D1RetentionSummary d1Summary;
+        List<DashboardOverviewResponseDto.DailyD1Retention> d1Trend;
+        List<DashboardOverviewResponseDto.RetentionSummary> retentionSummaries = List.of();
+
+        if (rollupService.isEnabled()) {
+            // 활동 bitmap 1회 스캔으로 D1/D7/D30 summary + trend
+            var result = retentionEngine.compute(fromInclusive, toExclusiveDate, rolledUntil);
+
+            var d1 = result.horizon(1);
+            d1Summary = new DashboardOverviewResponseDto.D1RetentionSummary(
+                    d1.cohortUsers(), d1.retainedUsers(), rate100(d1.retainedUsers(), d1.cohortUsers()));
+
+            d1Trend = result.trend().stream()
+                    .map(c -> {
+                        long retainedD1 = c.retainedUsers().getOrDefault(1, 0L);
+                        return new DashboardOverviewResponseDto.DailyD1Retention(
+                                c.date(), c.baseUsers(), retainedD1, rate100(retainedD1, c.baseUsers()));
+                    })
+                    .toList();
+
+            retentionSummaries = result.summary().stream()
+                    .map(h -> new DashboardOverviewResponseDto.RetentionSummary(
+                            h.days(), h.eligibleUsers(), h.retainedUsers(), rate100(h.retainedUsers(), h.eligibleUsers())))
+                    .toList();
+        } else {
+            OffsetDateTime toExclusivePlus1 = toExclusiveKst.plusDays(1);
+
+            var d1 = retentionRepo.fetchD1Retention(fromKst, toExclusivePlus1);
+            long eligible = (d1 == null) ? 0 : d1.eligibleUsers();
+            long retained = (d1 == null) ? 0 : d1.retainedUsers();
+
+            d1Summary = new DashboardOverviewResponseDto.D1RetentionSummary(eligible, retained, rate100(retained, eligible));
+
+            d1Trend = retentionRepo.fetchD1Trend(fromKst, toExclusivePlus1).stream()
+                    .map(r -> new DashboardOverviewResponseDto.DailyD1Retention(
+                            r.date(),
+                            r.baseUsers(),
+                            r.retainedUsers(),
+                            r.d1RetentionRate()
+                    ))
+                    .toList();
+        }
 
         return DashboardOverviewResponseDto.from(
                 fromInclusive,
@@ -82,10 +144,15 @@ public class DashboardOverviewAdminService {
                 dailyClicksRow,
                 topClickedRow,
                 d1Summary,
-                d1Trend
+                d1Trend,
+                retentionSummaries
         );
     }
 
+    private static double rate100(long numerator, long denominator) {
+        return (denominator == 0) ? 0.0 : round2(numerator * 100.0 / denominator);
+    }
+
     private static double round2(double v) {
         return Math.round(v * 100.0) / 100.0;
     }
@@ -0,0 +1,117 @@
+// src/main/java/com/team/backend/service/admin/DashboardRollupService.java
+package com.team.backend.service.admin;
+
+import com.team.backend.repository.admin.DashboardRollupJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * admin overview rollup 갱신 잡
+ * - watermark(rolled_until, exclusive)부터 어제(KST)까지 일 단위로 접음 (하루 = 1 트랜잭션)
+ * - 늦게 들어온 로그(async writer / batch ingest의 과거 createdAt) 흡수용으로 watermark 직전 lateDays일은 매번 재집계
+ * - 한 번에 maxDaysPerRun일까지만 (최초 backfill이 길어지면 다음 실행에서 이어서)
+ * - 오늘은 rollup하지 않음 → 조회 시 raw tail로 합산
+ * - 일자별 distinct user HLL 스케치 / retention 활동 bitmap도 같은 트랜잭션에서 갱신
+ */
+@Slf4j
+@Service
+public class DashboardRollupService {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final DashboardRollupJdbcRepository rollupRepo;
+    private final DistinctUserCounter distinctUserCounter;
+    private final RetentionEngine retentionEngine;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int lateDays;
+    private final int maxDaysPerRun;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public DashboardRollupService(
+            DashboardRollupJdbcRepository rollupRepo,
+            DistinctUserCounter distinctUserCounter,
+            RetentionEngine retentionEngine,
+            TransactionTemplate transactionTemplate,
+            @Value("${admin.rollup.enabled:true}") boolean enabled,
+            @Value("${admin.rollup.late-days:1}") int lateDays,
+            @Value("${admin.rollup.max-days-per-run:31}") int maxDaysPerRun
+    ) {
+        this.rollupRepo = rollupRepo;
+        this.distinctUserCounter = distinctUserCounter;
+        this.retentionEngine = retentionEngine;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.lateDays = Math.max(lateDays, 0);
+        this.maxDaysPerRun = Math.max(maxDaysPerRun, 1);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** 조회 구간 분할 기준 (rollup 꺼져 있으면 null → 전부 raw) */
+    public LocalDate rolledUntil() {
+        if (!enabled) return null;
+        return rollupRepo.findRolledUntil().orElse(null);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        run();
+    }
+
+    @Scheduled(cron = "${admin.rollup.cron:0 5 * * * *}", zone = "Asia/Seoul")
+    public void run() {
+        if (!enabled) return;
+        if (!running.compareAndSet(false, true)) {
+            log.info("[ADMIN][ROLLUP] 이전 실행 진행 중 → skip");
+            return;
+        }
+
+        try {
+            LocalDate today = LocalDate.now(KST);
+            Optional<LocalDate> watermark = rollupRepo.findRolledUntil();
+
+            LocalDate start = watermark
+                    .map(w -> w.minusDays(lateDays))
+                    .orElseGet(() -> rollupRepo.findEarliestLogDate().orElse(today));
+            LocalDate end = start.plusDays(maxDaysPerRun);
+            if (end.isAfter(today)) end = today;
+
+            long begin = System.currentTimeMillis();
+            int days = 0;
+            for (LocalDate day = start; day.isBefore(end); day = day.plusDays(1)) {
+                LocalDate d = day;
+                transactionTemplate.executeWithoutResult(status -> {
+                    rollupRepo.rollupDay(d);
+                    distinctUserCounter.buildDaySketch(d);
+                    retentionEngine.applyDay(d);
+                    rollupRepo.advanceRolledUntil(d.plusDays(1));
+                });
+                days++;
+            }
+
+            if (days > 0) {
+                log.info("[ADMIN][ROLLUP] rolled {} ~ {} days={} elapsedMs={}",
+                        start, end.minusDays(1), days, System.currentTimeMillis() - begin);
+            }
+        } catch (Exception e) {
+            log.warn("[ADMIN][ROLLUP] 실패: {}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+// src/main/java/com/team/backend/service/admin/DistinctUserCounter.java
+package com.team.backend.service.admin;
+
+import com.team.backend.common.sketch.HyperLogLog;
+import com.team.backend.repository.admin.DistinctUserSketchJdbcRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * distinct user 카운트 엔진 (HLL)
+ * - EXACT: 기존 COUNT(DISTINCT ...) SQL 그대로 (호출부 담당)
+ * - APPROX: [from, rolledUntil) 는 일자 스케치 merge, [rolledUntil, to) 는 raw key를 스케치에 바로 add
+ * - 스케치가 없거나 precision이 현재 설정과 다른 일자는 admin_rollup_daily_user에서 다시 add (결과는 동일, 느릴 뿐)
+ */
+@Slf4j
+@Component
+public class DistinctUserCounter {
+
+    public enum Mode { EXACT, APPROX }
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final DistinctUserSketchJdbcRepository sketchRepo;
+    private final Mode defaultMode;
+    private final int precision;
+
+    public DistinctUserCounter(
+            DistinctUserSketchJdbcRepository sketchRepo,
+            @Value("${admin.distinct.mode:EXACT}") Mode defaultMode,
+            @Value("${admin.distinct.hll-precision:14}") int precision
+    ) {
+        this.sketchRepo = sketchRepo;
+        this.defaultMode = defaultMode;
+        this.precision = Math.min(Math.max(precision, HyperLogLog.MIN_PRECISION), HyperLogLog.MAX_PRECISION);
+    }
+
+    public Mode resolve(Mode requested) {
+        return (requested == null) ? defaultMode : requested;
+    }
+
+    /** rollup 잡에서 하루치 rollup 직후 호출 (같은 트랜잭션 → key 스트리밍도 cursor fetch) */
+    @Transactional
+    public void buildDaySketch(LocalDate day) {
+        HyperLogLog hll = new HyperLogLog(precision);
+        sketchRepo.streamRollupUserKeys(List.of(day), hll::add);
+        sketchRepo.upsertSketch(day, precision, hll.toBytes());
+    }
+
+    /**
+     * [fromInclusive, toExclusive) KST 일자 구간 distinct user 추정치
+     * @param rolledUntil rollup watermark (null이면 전부 raw)
+     * - readOnly 트랜잭션 → key 스트리밍이 PG cursor fetch로 나눠서 옴 (snapshot 잡은 트랜잭션 밖에서 호출)
+     */
+    @Transactional(readOnly = true)
+    public long estimate(LocalDate fromInclusive, LocalDate toExclusive, LocalDate rolledUntil) {
+        LocalDate split = (rolledUntil == null) ? fromInclusive : rolledUntil;
+        if (split.isBefore(fromInclusive)) split = fromInclusive;
+        if (split.isAfter(toExclusive)) split = toExclusive;
+
+        HyperLogLog acc = new HyperLogLog(precision);
+
+        // 1) rollup 구간: 스케치 merge
+        Map<LocalDate, byte[]> sketches = sketchRepo.findSketches(fromInclusive, split);
+        List<LocalDate> missing = new ArrayList<>();
+        for (LocalDate d = fromInclusive; d.isBefore(split); d = d.plusDays(1)) {
+            byte[] bytes = sketches.get(d);
+            if (bytes == null || HyperLogLog.precisionOf(bytes) != precision) {
+                missing.add(d);
+                continue;
+            }
+            acc.merge(HyperLogLog.fromBytes(bytes));
+        }
+        if (!missing.isEmpty()) {
+            log.debug("[ADMIN][HLL] sketch missing/mismatch days={} → rollup user table fallback", missing.size());
+            sketchRepo.streamRollupUserKeys(missing, acc::add);
+        }
+
+        // 2) tail 구간: raw
+        sketchRepo.streamRawUserKeys(
+                split.atStartOfDay(KST).toOffsetDateTime(),
+                toExclusive.atStartOfDay(KST).toOffsetDateTime(),
+                acc::add);
+
+        return acc.estimate();
+    }
+}
@@ -0,0 +1,151 @@
+// src/main/java/com/team/backend/service/admin/RetentionEngine.java
+package com.team.backend.service.admin;
+
+import com.team.backend.repository.admin.RetentionActivityJdbcRepository;
+import com.team.backend.repository.admin.RetentionActivityJdbcRepository.ActivityRow;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * Dk retention (user_key 활동 bitmap 1회 스캔)
+ * - cohort 기준일 f = 조회 구간 [from, toExclusive) 안에서 user의 첫 활동일 (기존 D1 SQL과 동일 정의)
+ * - retained(k) = f + k 일에 활동
+ * - eligible(k) = f + k <= 오늘(KST) (아직 도래하지 않은 날은 분모에서 제외)
+ * - rollup 안 된 일자(rolledUntil 이후)는 raw session_log로 보충
+ * - summary / 일자별 trend 를 같은 스캔에서 같이 만듦
+ */
+@Component
+public class RetentionEngine {
+
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final RetentionActivityJdbcRepository activityRepo;
+    private final int[] horizons;
+
+    public RetentionEngine(
+            RetentionActivityJdbcRepository activityRepo,
+            @Value("${admin.retention.horizons:1,7,30}") int[] horizons
+    ) {
+        this.activityRepo = activityRepo;
+        // D1은 overview 기본 지표라 항상 포함
+        this.horizons = Arrays.stream(horizons).filter(k -> k > 0).distinct().sorted().toArray();
+        if (Arrays.stream(this.horizons).noneMatch(k -> k == 1)) {
+            throw new IllegalStateException("admin.retention.horizons에 1(D1)이 포함되어야 합니다.");
+        }
+    }
+
+    public record Horizon(int days, long cohortUsers, long eligibleUsers, long retainedUsers) {}
+
+    public record DailyCohort(LocalDate date, long baseUsers, Map<Integer, Long> retainedUsers) {}
+
+    public record Result(List<Horizon> summary, List<DailyCohort> trend) {
+
+        public Horizon horizon(int days) {
+            return summary.stream().filter(h -> h.days() == days).findFirst()
+                    .orElse(new Horizon(days, 0, 0, 0));
+        }
+    }
+
+    /** rollup 잡에서 하루치 rollup 직후 호출 (같은 트랜잭션) */
+    public void applyDay(LocalDate day) {
+        activityRepo.applyDay(day);
+    }
+
+    /** 읽기 전용 트랜잭션 안에서 스트리밍해야 fetch size가 cursor로 적용됨 */
+    @Transactional(readOnly = true)
+    public Result compute(LocalDate fromInclusive, LocalDate toExclusive, LocalDate rolledUntil) {
+        LocalDate today = LocalDate.now(KST);
+        int windowDays = (int) ChronoUnit.DAYS.between(fromInclusive, toExclusive);
+        int maxK = horizons[horizons.length - 1];
+        LocalDate checkEnd = toExclusive.plusDays(maxK);
+        int span = windowDays + maxK;
+
+        // 1) tail(raw): rolledUntil 이후 ~ min(오늘, checkEnd)
+        LocalDate tailFrom = (rolledUntil == null || rolledUntil.isBefore(fromInclusive)) ? fromInclusive : rolledUntil;
+        LocalDate tailTo = today.plusDays(1).isBefore(checkEnd) ? today.plusDays(1) : checkEnd;
+
+        Map<String, BitSet> tail = new HashMap<>();
+        if (tailFrom.isBefore(tailTo)) {
+            activityRepo.streamRawActivity(
+                    tailFrom.atStartOfDay(KST).toOffsetDateTime(),
+                    tailTo.atStartOfDay(KST).toOffsetDateTime(),
+                    r -> {
+                        int rel = (int) ChronoUnit.DAYS.between(fromInclusive, r.day());
+                        if (rel >= 0 && rel < span) tail.computeIfAbsent(r.userKey(), k -> new BitSet(span)).set(rel);
+                    });
+        }
+
+        // 2) 누적기: cohort 일자(rel)별 base / horizon별 retained, eligible
+        long[] base = new long[Math.max(windowDays, 0)];
+        long[][] retained = new long[horizons.length][Math.max(windowDays, 0)];
+        int matureLimit = (int) ChronoUnit.DAYS.between(fromInclusive, today); // rel <= matureLimit 면 관측 가능
+
+        // 3) bitmap 스캔 (tail과 OR)
+        activityRepo.streamActivity(fromInclusive, checkEnd, row -> {
+            BitSet days = toRelative(row, fromInclusive, span);
+            BitSet t = tail.remove(row.userKey());
+            if (t != null) days.or(t);
+            accumulate(days, windowDays, base, retained);
+        });
+
+        // 4) tail에만 있는 user (rollup 전 신규)
+        for (BitSet days : tail.values()) {
+            accumulate(days, windowDays, base, retained);
+        }
+
+        // 5) 집계
+        List<DailyCohort> trend = new ArrayList<>();
+        long cohortTotal = 0;
+        long[] retainedTotal = new long[horizons.length];
+        long[] eligibleTotal = new long[horizons.length];
+
+        for (int f = 0; f < windowDays; f++) {
+            if (base[f] == 0) continue;
+            cohortTotal += base[f];
+
+            Map<Integer, Long> byHorizon = new LinkedHashMap<>();
+            for (int h = 0; h < horizons.length; h++) {
+                byHorizon.put(horizons[h], retained[h][f]);
+                retainedTotal[h] += retained[h][f];
+                if (f + horizons[h] <= matureLimit) eligibleTotal[h] += base[f];
+            }
+            trend.add(new DailyCohort(fromInclusive.plusDays(f), base[f], byHorizon));
+        }
+
+        List<Horizon> summary = new ArrayList<>(horizons.length);
+        for (int h = 0; h < horizons.length; h++) {
+            summary.add(new Horizon(horizons[h], cohortTotal, eligibleTotal[h], retainedTotal[h]));
+        }
+        return new Result(summary, trend);
+    }
+
+    private void accumulate(BitSet days, int windowDays, long[] base, long[][] retained) {
+        int f = days.nextSetBit(0);
+        if (f < 0 || f >= windowDays) return;
+
+        base[f]++;
+        for (int h = 0; h < horizons.length; h++) {
+            if (days.get(f + horizons[h])) retained[h][f]++;
+        }
+    }
+
+    /** bitmap(first_seen 기준) → from 기준 상대 일자 BitSet (조회 span 밖은 버림) */
+    private static BitSet toRelative(ActivityRow row, LocalDate from, int span) {
+        BitSet out = new BitSet(span);
+        String bits = row.bits();
+        int shift = (int) ChronoUnit.DAYS.between(from, row.firstSeen());
+
+        int start = Math.max(0, -shift);
+        int end = Math.min(bits.length(), span - shift);
+        for (int i = start; i < end; i++) {
+            if (bits.charAt(i) == '1') out.set(i + shift);
+        }
+        return out;
+    }
+}
@@ -1,17 +1,27 @@
 package com.team.backend.service.ai.dto; // src/main/java/com/team/backend/service/ai/dto/FeedbackAdaptiveAiClient.java
 
+import com.team.backend.config.AiCircuitBreaker;
+import com.team.backend.config.AiUpstreamException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.util.UriComponentsBuilder;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class FeedbackAdaptiveAiClient {
 
     private final RestClient aiRestClient;
 
+    @Qualifier("feedbackAiCircuitBreaker")
+    private final AiCircuitBreaker circuitBreaker;
+
     public FeedbackAdaptiveAiDto.AdaptiveResponse adaptive(
             String sessionKey,
             int year,
@@ -25,13 +35,41 @@ public class FeedbackAdaptiveAiClient {
                 .build()
                 .toUriString();
 
-        return aiRestClient.post()
-                .uri(uri)
-                .header("X-Session-Key", sessionKey)
-                .contentType(MediaType.APPLICATION_JSON)
-                .accept(MediaType.APPLICATION_JSON)
-                .body(request)
-                .retrieve()
-                .body(FeedbackAdaptiveAiDto.AdaptiveResponse.class);
+        // ✅ circuit OPEN이면 업스트림 대기 없이 즉시 실패
+        if (!circuitBreaker.tryAcquire()) {
+            log.warn("[AI][FEEDBACK_ADAPTIVE] CIRCUIT_OPEN state={}", circuitBreaker.state());
+            throw new AiUpstreamException("AI_CIRCUIT_OPEN", 503, "FEEDBACK_ADAPTIVE circuit open");
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            FeedbackAdaptiveAiDto.AdaptiveResponse res = aiRestClient.post()
+                    .uri(uri)
+                    .header("X-Session-Key", sessionKey)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .body(request)
+                    .retrieve()
+                    .body(FeedbackAdaptiveAiDto.AdaptiveResponse.class);
+
+            circuitBreaker.onSuccess(System.currentTimeMillis() - start);
+            return res;
+
+        } catch (HttpStatusCodeException e) {
+            // 4xx는 요청 문제 → 업스트림 건강 통계에서 제외
+            if (e.getStatusCode().is5xxServerError()) circuitBreaker.onFailure();
+            else circuitBreaker.onIgnored();
+            throw e;
+
+        } catch (RestClientException e) {
+            circuitBreaker.onFailure();
+            throw e;
+
+        } catch (RuntimeException e) {
+            // 예상 밖 예외도 permit은 반납 → HALF_OPEN 슬롯이 새지 않게 (업스트림 건강 통계에서는 제외)
+            log.warn("[AI][FEEDBACK_ADAPTIVE] UNEXPECTED_ERROR type={}, msg={}", e.getClass().getSimpleName(), e.getMessage());
+            circuitBreaker.onIgnored();
+            throw e;
+        }
     }
-}
\ No newline at end of file
+}
@@ -3,6 +3,8 @@ package com.team.backend.service.ai.dto;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team.backend.config.AiCircuitBreaker;
+import com.team.backend.config.AiHedgingPolicy;
 import com.team.backend.config.AiUpstreamException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -12,7 +14,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.client.*;
 
 import java.nio.charset.StandardCharsets;
-import java.util.Collections;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 @Slf4j
 @Component
@@ -20,6 +25,10 @@ public class RecommendationAiClient {
 
     private final RestTemplate aiRestTemplate;
     private final ObjectMapper objectMapper;
+    private final RecommendationAiScoreCache scoreCache;
+    private final AiCircuitBreaker circuitBreaker;
+    private final AiHedgingPolicy hedgingPolicy;
+    private final Executor hedgeExecutor;
 
     @Value("${ai.blend-ratio-path:/recommend/blend-ratio}")
     private String blendRatioPath;
@@ -27,14 +36,30 @@ public class RecommendationAiClient {
     @Value("${ai.material-ratio-path:/recommend/material_ratio}")
     private String materialRatioPath;
 
+    // 여러 그룹(category)의 items를 한 payload로 묶어 보낼지 여부 (false면 항상 그룹별 호출)
+    @Value("${ai.batch-scoring.enabled:true}")
+    private boolean batchScoringEnabled;
+
+    // 그룹별 호출 deadline (ClothingRecommendationService fan-out과 같은 값)
+    @Value("${ai.scoring.deadline-ms:8000}")
+    private long scoringDeadlineMs;
+
     private static final int MAX_BODY_LOG_CHARS = 3000;
 
     public RecommendationAiClient(
             @Qualifier("aiRestTemplate") RestTemplate aiRestTemplate,
-            ObjectMapper objectMapper
+            ObjectMapper objectMapper,
+            RecommendationAiScoreCache scoreCache,
+            @Qualifier("recommendationAiCircuitBreaker") AiCircuitBreaker circuitBreaker,
+            AiHedgingPolicy hedgingPolicy,
+            @Qualifier("aiHedgeExecutor") Executor hedgeExecutor
     ) {
         this.aiRestTemplate = aiRestTemplate;
         this.objectMapper = objectMapper;
+        this.scoreCache = scoreCache;
+        this.circuitBreaker = circuitBreaker;
+        this.hedgingPolicy = hedgingPolicy;
+        this.hedgeExecutor = hedgeExecutor;
     }
 
     // =========================
@@ -61,31 +86,334 @@ public class RecommendationAiClient {
         );
     }
 
+    // =========================
+    // Batched API
+    // - 그룹(예: category)별 items를 한 번의 POST로 보내고, 응답을 clothingId 기준으로 그룹별로 다시 나눈다
+    // - score cache hit인 item은 업스트림으로 보내지 않는다 (전부 hit면 HTTP 호출 자체를 생략)
+    // - 배치 호출이 거절(4xx)되거나 쓸 수 있는 결과가 없으면(업스트림 미지원) 그룹별 단건 호출로 fallback
+    // - timeout / circuit open / 5xx면 그룹별 재시도 없이 빈 결과 → 호출부 fallback
+    // - 그룹별 호출까지 실패하고 cache hit도 없는 그룹은 결과 Map에서 빠진다 → 호출부에서 fallback 처리
+    // =========================
+
+    public <K> Map<K, RecommendationAiDto.BlendRatioResponse> recommendBlendRatioBatch(
+            RecommendationAiDto.BlendContext context,
+            Map<K, List<RecommendationAiDto.BlendItemReq>> itemsByGroup
+    ) {
+        Map<K, List<RecommendationAiDto.BlendItemReq>> groups = nonEmptyGroups(itemsByGroup);
+        if (groups.isEmpty()) return Map.of();
+
+        String ctxKey = scoreCache.blendContextKey(context);
+        Map<Long, String> keyOf = new HashMap<>();
+        Map<K, List<RecommendationAiDto.BlendRatioResult>> hits = new LinkedHashMap<>();
+        Map<K, List<RecommendationAiDto.BlendItemReq>> misses = new LinkedHashMap<>();
+
+        groups.forEach((k, items) -> {
+            for (RecommendationAiDto.BlendItemReq it : items) {
+                String key = scoreCache.blendItemKey(ctxKey, it);
+                RecommendationAiDto.BlendRatioResult cached = scoreCache.get(key, RecommendationAiDto.BlendRatioResult.class);
+                if (cached != null) {
+                    hits.computeIfAbsent(k, x -> new ArrayList<>()).add(cached);
+                } else {
+                    keyOf.put(it.clothingId, key);
+                    misses.computeIfAbsent(k, x -> new ArrayList<>()).add(it);
+                }
+            }
+        });
+
+        Map<K, List<RecommendationAiDto.BlendRatioResult>> fetched = misses.isEmpty()
+                ? Map.of()
+                : fetchBlendRatioBatch(context, misses);
+
+        // score가 null인 결과는 캐시하지 않는다(다음 요청에서 다시 시도)
+        fetched.values().forEach(results -> results.forEach(r -> {
+            if (r.blendRatioScore != null) scoreCache.put(keyOf.get(r.clothingId), r);
+        }));
+
+        log.info("[AI][BLEND_RATIO][CACHE] hitItems={}, missItems={}",
+                hits.values().stream().mapToInt(List::size).sum(), keyOf.size());
+
+        Map<K, RecommendationAiDto.BlendRatioResponse> out = new LinkedHashMap<>();
+        for (K k : groups.keySet()) {
+            List<RecommendationAiDto.BlendRatioResult> h = hits.get(k);
+            List<RecommendationAiDto.BlendRatioResult> f = fetched.get(k);
+            if (h == null && f == null) continue;
+
+            RecommendationAiDto.BlendRatioResponse part = new RecommendationAiDto.BlendRatioResponse();
+            part.results = concat(h, f);
+            out.put(k, part);
+        }
+        return out;
+    }
+
+    public <K> Map<K, RecommendationAiDto.MaterialRatioResponse> recommendMaterialRatioBatch(
+            RecommendationAiDto.MaterialWeather weather,
+            Map<K, List<RecommendationAiDto.MaterialItemReq>> itemsByGroup
+    ) {
+        Map<K, List<RecommendationAiDto.MaterialItemReq>> groups = nonEmptyGroups(itemsByGroup);
+        if (groups.isEmpty()) return Map.of();
+
+        String ctxKey = scoreCache.materialContextKey(weather);
+        Map<Long, String> keyOf = new HashMap<>();
+        Map<K, List<RecommendationAiDto.MaterialRatioResult>> hits = new LinkedHashMap<>();
+        Map<K, List<RecommendationAiDto.MaterialItemReq>> misses = new LinkedHashMap<>();
+
+        groups.forEach((k, items) -> {
+            for (RecommendationAiDto.MaterialItemReq it : items) {
+                String key = scoreCache.materialItemKey(ctxKey, it);
+                RecommendationAiDto.MaterialRatioResult cached = scoreCache.get(key, RecommendationAiDto.MaterialRatioResult.class);
+                if (cached != null) {
+                    hits.computeIfAbsent(k, x -> new ArrayList<>()).add(cached);
+                } else {
+                    keyOf.put(it.clothingId, key);
+                    misses.computeIfAbsent(k, x -> new ArrayList<>()).add(it);
+                }
+            }
+        });
+
+        Map<K, List<RecommendationAiDto.MaterialRatioResult>> fetched = misses.isEmpty()
+                ? Map.of()
+                : fetchMaterialRatioBatch(weather, misses);
+
+        fetched.values().forEach(results -> results.forEach(r -> {
+            if (r.materialRatioScore != null) scoreCache.put(keyOf.get(r.clothingId), r);
+        }));
+
+        log.info("[AI][MATERIAL_RATIO][CACHE] hitItems={}, missItems={}",
+                hits.values().stream().mapToInt(List::size).sum(), keyOf.size());
+
+        Map<K, RecommendationAiDto.MaterialRatioResponse> out = new LinkedHashMap<>();
+        for (K k : groups.keySet()) {
+            List<RecommendationAiDto.MaterialRatioResult> h = hits.get(k);
+            List<RecommendationAiDto.MaterialRatioResult> f = fetched.get(k);
+            if (h == null && f == null) continue;
+
+            RecommendationAiDto.MaterialRatioResponse part = new RecommendationAiDto.MaterialRatioResponse();
+            part.results = concat(h, f);
+            out.put(k, part);
+        }
+        return out;
+    }
+
+    private <K> Map<K, List<RecommendationAiDto.BlendRatioResult>> fetchBlendRatioBatch(
+            RecommendationAiDto.BlendContext context,
+            Map<K, List<RecommendationAiDto.BlendItemReq>> groups
+    ) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(scoringDeadlineMs);
+
+        if (batchScoringEnabled && groups.size() > 1) {
+            List<RecommendationAiDto.BlendItemReq> merged = groups.values().stream().flatMap(List::stream).toList();
+            try {
+                RecommendationAiDto.BlendRatioResponse res =
+                        recommendBlendRatio(new RecommendationAiDto.BlendRatioRequest(context, merged));
+
+                Map<K, List<RecommendationAiDto.BlendRatioResult>> split =
+                        splitByGroup(groups, res.results, r -> r.clothingId, it -> it.clothingId);
+                if (split != null) return split;
+
+                log.warn("[AI][BLEND_RATIO][BATCH] no matched results → per-group fallback. groups={}", groups.size());
+            } catch (AiUpstreamException e) {
+                // timeout / circuit open / 5xx → 업스트림이 아픈 상황, 그룹별로 쪼개 N배로 두드리지 않음 (호출부 fallback)
+                if (!isRejectedRequest(e)) {
+                    log.warn("[AI][BLEND_RATIO][BATCH] failed → skip per-group fallback. code={}, msg={}", e.getCode(), e.getMessage());
+                    return Map.of();
+                }
+                log.warn("[AI][BLEND_RATIO][BATCH] rejected → per-group fallback. code={}, msg={}", e.getCode(), e.getMessage());
+            }
+        }
+
+        return fetchPerGroup(groups, items -> recommendBlendRatio(new RecommendationAiDto.BlendRatioRequest(context, items)).results,
+                r -> r.clothingId, it -> it.clothingId, deadlineNanos, "BLEND_RATIO");
+    }
+
+    private <K> Map<K, List<RecommendationAiDto.MaterialRatioResult>> fetchMaterialRatioBatch(
+            RecommendationAiDto.MaterialWeather weather,
+            Map<K, List<RecommendationAiDto.MaterialItemReq>> groups
+    ) {
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(scoringDeadlineMs);
+
+        if (batchScoringEnabled && groups.size() > 1) {
+            List<RecommendationAiDto.MaterialItemReq> merged = groups.values().stream().flatMap(List::stream).toList();
+            try {
+                RecommendationAiDto.MaterialRatioResponse res =
+                        recommendMaterialRatio(new RecommendationAiDto.MaterialRatioRequest(merged, weather));
+
+                Map<K, List<RecommendationAiDto.MaterialRatioResult>> split =
+                        splitByGroup(groups, res.results, r -> r.clothingId, it -> it.clothingId);
+                if (split != null) return split;
+
+                log.warn("[AI][MATERIAL_RATIO][BATCH] no matched results → per-group fallback. groups={}", groups.size());
+            } catch (AiUpstreamException e) {
+                // timeout / circuit open / 5xx → 업스트림이 아픈 상황, 그룹별로 쪼개 N배로 두드리지 않음 (호출부 fallback)
+                if (!isRejectedRequest(e)) {
+                    log.warn("[AI][MATERIAL_RATIO][BATCH] failed → skip per-group fallback. code={}, msg={}", e.getCode(), e.getMessage());
+                    return Map.of();
+                }
+                log.warn("[AI][MATERIAL_RATIO][BATCH] rejected → per-group fallback. code={}, msg={}", e.getCode(), e.getMessage());
+            }
+        }
+
+        return fetchPerGroup(groups, items -> recommendMaterialRatio(new RecommendationAiDto.MaterialRatioRequest(items, weather)).results,
+                r -> r.clothingId, it -> it.clothingId, deadlineNanos, "MATERIAL_RATIO");
+    }
+
+    /**
+     * 그룹별 단건 호출 (배치 미사용 / 배치가 거절·매칭 실패했을 때)
+     * - 호출 스레드에서 순서대로 (aiScoringExecutor 안에서 불리므로 같은 풀에 자식 작업을 넣지 않음)
+     * - 호출 전마다 deadline(fetch*Batch 진입 기준 ai.scoring.deadline-ms) 확인 → 넘었으면 남은 그룹은 건너뜀
+     * - timeout / circuit open / 5xx면 남은 그룹도 호출하지 않음, 4xx 등 요청 문제는 해당 그룹만 빠짐
+     * - 빠진 그룹은 결과 Map에 없음 → 호출부에서 category별 fallback
+     */
+    private <K, I, R> Map<K, List<R>> fetchPerGroup(
+            Map<K, List<I>> groups,
+            Function<List<I>, List<R>> call,
+            Function<R, Long> resultId,
+            Function<I, Long> itemId,
+            long deadlineNanos,
+            String tag
+    ) {
+        Map<K, List<R>> out = new LinkedHashMap<>();
+        for (Map.Entry<K, List<I>> e : groups.entrySet()) {
+            K k = e.getKey();
+            if (System.nanoTime() - deadlineNanos >= 0) {
+                log.warn("[AI][{}] deadline exceeded → skip remaining groups. done={}, total={}, deadlineMs={}",
+                        tag, out.size(), groups.size(), scoringDeadlineMs);
+                break;
+            }
+
+            try {
+                Map<K, List<R>> split = splitByGroup(Map.of(k, e.getValue()), call.apply(e.getValue()), resultId, itemId);
+                out.put(k, split == null ? List.of() : split.get(k));
+            } catch (AiUpstreamException ex) {
+                log.warn("[AI][{}] group failed. group={}, code={}", tag, k, ex.getCode());
+                if (!isRejectedRequest(ex)) break;
+            }
+        }
+        return out;
+    }
+
+    /** 업스트림이 요청 자체를 거절(4xx)한 경우 → 업스트림은 정상이므로 그룹별로 나눠 다시 보내볼 만함 */
+    private static boolean isRejectedRequest(AiUpstreamException e) {
+        return e.getCode() != null && e.getCode().startsWith("AI_HTTP_4");
+    }
+
     // =========================
     // Core
     // =========================
 
     private <T> T executePost(String path, Object req, Class<T> responseType, String tag) {
+        if (!hedgingPolicy.isEnabled()) {
+            return executeOnce(path, req, responseType, tag);
+        }
+        hedgingPolicy.onCall();
+
+        long hedgeDelayMs = hedgingPolicy.hedgeDelayMs(circuitBreaker);
+        if (hedgeDelayMs < 0) {
+            return executeOnce(path, req, responseType, tag);
+        }
+
+        CompletableFuture<T> primary;
+        try {
+            primary = CompletableFuture.supplyAsync(() -> executeOnce(path, req, responseType, tag), hedgeExecutor);
+        } catch (RejectedExecutionException e) {
+            return executeOnce(path, req, responseType, tag);
+        }
+
+        try {
+            return primary.get(hedgeDelayMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // primary가 pXX 안에 안 옴 → budget 안에서 hedge 1회
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause(), tag);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            primary.cancel(true);
+            throw new AiUpstreamException("AI_INTERRUPTED", 503, tag + " interrupted");
+        }
+
+        CompletableFuture<T> hedge = null;
+        if (hedgingPolicy.tryAcquireHedge()) {
+            try {
+                hedge = CompletableFuture.supplyAsync(() -> executeOnce(path, req, responseType, tag + "_HEDGE"), hedgeExecutor);
+                log.info("[AI][{}] HEDGE sent afterMs={}", tag, hedgeDelayMs);
+            } catch (RejectedExecutionException e) {
+                log.debug("[AI][{}] HEDGE rejected (pool full)", tag);
+            }
+        }
+
+        return awaitFirst(primary, hedge, tag);
+    }
+
+    /**
+     * primary/hedge 중 먼저 성공한 응답을 사용. 둘 다 실패하면 마지막 실패를 던진다.
+     */
+    private <T> T awaitFirst(CompletableFuture<T> primary, CompletableFuture<T> hedge, String tag) {
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        int attempts = hedge == null ? 1 : 2;
+        AtomicInteger failures = new AtomicInteger();
+
+        primary.whenComplete((v, ex) -> {
+            if (ex == null) winner.complete(v);
+            else if (failures.incrementAndGet() == attempts) winner.completeExceptionally(ex);
+        });
+        if (hedge != null) {
+            hedge.whenComplete((v, ex) -> {
+                if (ex == null) {
+                    if (winner.complete(v)) hedgingPolicy.onHedgeWon();
+                } else if (failures.incrementAndGet() == attempts) {
+                    winner.completeExceptionally(ex);
+                }
+            });
+        }
+
+        try {
+            return winner.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e.getCause(), tag);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            primary.cancel(true);
+            if (hedge != null) hedge.cancel(true);
+            throw new AiUpstreamException("AI_INTERRUPTED", 503, tag + " interrupted");
+        }
+    }
+
+    private RuntimeException unwrap(Throwable cause, String tag) {
+        if (cause instanceof CompletionException && cause.getCause() != null) cause = cause.getCause();
+        if (cause instanceof RuntimeException re) return re;
+        return new AiUpstreamException("AI_CLIENT_ERROR", 502, tag + " error: " + cause);
+    }
+
+    private <T> T executeOnce(String path, Object req, Class<T> responseType, String tag) {
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setAccept(Collections.singletonList(MediaType.APPLICATION_JSON));
 
         HttpEntity<Object> entity = new HttpEntity<>(req, headers);
 
-        log.info("[AI][{}] POST {}", tag, path);
+        // ✅ circuit OPEN이면 업스트림을 기다리지 않고 즉시 실패 → 호출부 fallback
+        if (!circuitBreaker.tryAcquire()) {
+            log.warn("[AI][{}] CIRCUIT_OPEN state={}", tag, circuitBreaker.state());
+            throw new AiUpstreamException("AI_CIRCUIT_OPEN", 503, tag + " circuit open");
+        }
+
+        log.info("[AI][{}] POST {} timeoutMs={}", tag, path, circuitBreaker.currentTimeoutMs());
         if (log.isDebugEnabled()) {
             log.debug("[AI][{}] requestBody={}", tag, safeJson(req));
         }
 
+        long start = System.currentTimeMillis();
         try {
             ResponseEntity<T> res = aiRestTemplate.exchange(path, HttpMethod.POST, entity, responseType);
 
             int status = res.getStatusCode().value();
             if (!res.getStatusCode().is2xxSuccessful() || res.getBody() == null) {
                 log.warn("[AI][{}] BAD_RESPONSE status={}, body=null", tag, status);
+                circuitBreaker.onFailure();
                 throw new AiUpstreamException("AI_BAD_RESPONSE", 502, tag + " returned empty body");
             }
 
+            circuitBreaker.onSuccess(System.currentTimeMillis() - start);
+
             T body = res.getBody();
             Integer resultsCount = extractResultsCount(body);
 
@@ -101,6 +429,10 @@ public class RecommendationAiClient {
             String raw = safeBody(e);
             log.warn("[AI][{}] HTTP_ERROR status={}, body={}", tag, status, truncate(raw, MAX_BODY_LOG_CHARS));
 
+            // 4xx는 요청 문제 → 업스트림 건강 통계에서 제외
+            if (e.getStatusCode().is5xxServerError()) circuitBreaker.onFailure();
+            else circuitBreaker.onIgnored();
+
             throw new AiUpstreamException(
                     "AI_HTTP_" + status,
                     502,
@@ -109,11 +441,23 @@ public class RecommendationAiClient {
 
         } catch (ResourceAccessException e) {
             log.warn("[AI][{}] TIMEOUT/CONNECTION_ERROR msg={}", tag, e.getMessage());
+            circuitBreaker.onFailure();
             throw new AiUpstreamException("AI_TIMEOUT", 504, tag + " timeout/connection error: " + e.getMessage());
 
         } catch (RestClientException e) {
             log.warn("[AI][{}] CLIENT_ERROR type={}, msg={}", tag, e.getClass().getSimpleName(), e.getMessage());
+            circuitBreaker.onFailure();
             throw new AiUpstreamException("AI_CLIENT_ERROR", 502, tag + " client error: " + e.getMessage());
+
+        } catch (AiUpstreamException e) {
+            // BAD_RESPONSE: 위에서 이미 onFailure 처리됨
+            throw e;
+
+        } catch (RuntimeException e) {
+            // 예상 밖 예외(변환/버그 등)도 permit은 반납 → HALF_OPEN 슬롯이 새지 않게 (업스트림 건강 통계에서는 제외)
+            log.warn("[AI][{}] UNEXPECTED_ERROR type={}, msg={}", tag, e.getClass().getSimpleName(), e.getMessage());
+            circuitBreaker.onIgnored();
+            throw e;
         }
     }
 
@@ -159,6 +503,52 @@ public class RecommendationAiClient {
     // Helpers
     // =========================
 
+    private <R> List<R> concat(List<R> a, List<R> b) {
+        List<R> out = new ArrayList<>();
+        if (a != null) out.addAll(a);
+        if (b != null) out.addAll(b);
+        return out;
+    }
+
+    private <K, I> Map<K, List<I>> nonEmptyGroups(Map<K, List<I>> itemsByGroup) {
+        Map<K, List<I>> out = new LinkedHashMap<>();
+        if (itemsByGroup == null) return out;
+        itemsByGroup.forEach((k, items) -> {
+            if (items != null && !items.isEmpty()) out.put(k, items);
+        });
+        return out;
+    }
+
+    /**
+     * 배치 응답을 요청 시점의 그룹 구성(clothingId → group)으로 다시 나눈다.
+     * 어떤 그룹에도 매칭되는 결과가 하나도 없으면 null (배치 미지원/실패로 간주)
+     */
+    private <K, I, R> Map<K, List<R>> splitByGroup(
+            Map<K, List<I>> groups,
+            List<R> results,
+            Function<R, Long> resultId,
+            Function<I, Long> itemId
+    ) {
+        Map<Long, K> groupOf = new HashMap<>();
+        Map<K, List<R>> out = new LinkedHashMap<>();
+        groups.forEach((k, items) -> {
+            out.put(k, new ArrayList<>());
+            for (I it : items) groupOf.put(itemId.apply(it), k);
+        });
+
+        int matched = 0;
+        if (results != null) {
+            for (R r : results) {
+                if (r == null) continue;
+                K k = groupOf.get(resultId.apply(r));
+                if (k == null) continue;
+                out.get(k).add(r);
+                matched++;
+            }
+        }
+        return matched == 0 ? null : out;
+    }
+
     private String normalizePath(String p) {
         if (p == null || p.isBlank()) return "/";
         return p.startsWith("/") ? p : ("/" + p);
@@ -0,0 +1,110 @@
+// src/main/java/com/team/backend/service/ai/dto/RecommendationAiScoreCache.java
+package com.team.backend.service.ai.dto;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * AI 스코어 캐시 (item 단위)
+ * - key = modelType + 날씨 context canonical hash + clothingId + item feature
+ * - 같은 날/같은 지역이면 날씨 context가 같으므로, 사용자가 달라도 같은 item은 같은 점수
+ * - TTL + maximumSize로 bound, hit/miss/eviction은 Micrometer(cache.*{cache=aiScore})로 노출
+ */
+@Slf4j
+@Component
+public class RecommendationAiScoreCache {
+
+    private static final String CACHE_NAME = "aiScore";
+
+    private final boolean enabled;
+    private final Cache<String, Object> cache;
+
+    public RecommendationAiScoreCache(
+            MeterRegistry meterRegistry,
+            @Value("${ai.score-cache.enabled:true}") boolean enabled,
+            @Value("${ai.score-cache.ttl-seconds:3600}") long ttlSeconds,
+            @Value("${ai.score-cache.max-size:50000}") long maxSize
+    ) {
+        log.info("[AI][CONFIG][ScoreCache] enabled={}, ttlSeconds={}, maxSize={}", enabled, ttlSeconds, maxSize);
+
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    // =========================
+    // Keys
+    // =========================
+
+    public String blendContextKey(RecommendationAiDto.BlendContext c) {
+        if (c == null) return null;
+        return "BLEND_RATIO:" + sha256(String.join("|",
+                str(c.temperature), str(c.humidity), str(c.windSpeed), str(c.cloudAmount),
+                str(c.maxTemperature), str(c.minTemperature), str(c.sky)
+        ));
+    }
+
+    public String materialContextKey(RecommendationAiDto.MaterialWeather w) {
+        if (w == null) return null;
+        return "MATERIAL_RATIO:" + sha256(String.join("|",
+                str(w.temperature), str(w.feelsLikeTemperature), str(w.maxTemperature), str(w.minTemperature),
+                str(w.humidity), str(w.precipitationProbability), str(w.windSpeed)
+        ));
+    }
+
+    public String blendItemKey(String contextKey, RecommendationAiDto.BlendItemReq it) {
+        return contextKey + ":" + it.clothingId + ":" + str(it.cRatio) + "|" + str(it.thickness);
+    }
+
+    public String materialItemKey(String contextKey, RecommendationAiDto.MaterialItemReq it) {
+        return contextKey + ":" + it.clothingId + ":" + str(it.name) + "|" + str(it.thicknessLevel) + "|" + str(it.color);
+    }
+
+    // =========================
+    // Get / Put
+    // =========================
+
+    public <R> R get(String key, Class<R> type) {
+        if (!enabled || key == null) return null;
+        Object v = cache.getIfPresent(key);
+        return type.isInstance(v) ? type.cast(v) : null;
+    }
+
+    public void put(String key, Object value) {
+        if (!enabled || key == null || value == null) return;
+        cache.put(key, value);
+    }
+
+    // =========================
+    // Helpers
+    // =========================
+
+    private static String str(Object v) {
+        return v == null ? "" : v.toString();
+    }
+
+    private static String sha256(String s) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(s.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
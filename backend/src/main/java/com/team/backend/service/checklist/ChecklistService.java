@@ -7,8 +7,7 @@ import com.team.backend.api.dto.log.RecommendationEventLogRequestDto;
 import com.team.backend.api.dto.log.SessionLogRequestDto;
 import com.team.backend.common.time.TimeRanges;
 import com.team.backend.repository.checklist.ChecklistJdbcRepository;
-import com.team.backend.repository.log.RecommendationEventLogJdbcRepository;
-import com.team.backend.repository.log.SessionLogJdbcRepository;
+import com.team.backend.service.log.AsyncLogWriter;
 import com.team.backend.service.session.SessionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -31,8 +30,7 @@ public class ChecklistService {
 
     private final SessionService sessionService;
     private final ChecklistJdbcRepository checklistRepo;
-    private final RecommendationEventLogJdbcRepository recoLogRepo;
-    private final SessionLogJdbcRepository sessionLogRepo;
+    private final AsyncLogWriter logWriter;
 
     /**
      * 오늘 체크리스트 제출(멱등)
@@ -59,9 +57,15 @@ public class ChecklistService {
 
         UUID recoId = UUID.randomUUID();
 
+        // 0) (session_key, kst_date) 선점: 동시 제출이면 한쪽만 성공 → 나머지는 기존 recoId 반환
+        if (checklistRepo.claimToday(key, today, recoId) == null) {
+            UUID claimed = checklistRepo.findTodayChecklistRecommendationId(key, today);
+            return new ChecklistSubmitResponseDto(claimed.toString(), today, false);
+        }
+
         // 1) START (신규 발급 시점에 1회)
-        // createdAt=null -> DB now()로 들어가게(Repo SQL이 COALESCE 처리되어 있어야 함)
-        sessionLogRepo.insert(SessionLogRequestDto.builder()
+        // createdAt=null -> enqueue 시각 (비동기 batch insert)
+        logWriter.writeSessionLog(SessionLogRequestDto.builder()
                 .createdAt(null)
                 .userId(null)
                 .sessionKey(key)
@@ -73,13 +77,14 @@ public class ChecklistService {
                 .build());
 
         // 2) CHECKLIST_SUBMITTED (신규 발급 시점에 1회)
+        // 오늘 제출 여부는 checklist_daily_index가 담당 → 이벤트 로그는 비동기 batch insert
         // payload는 "체크리스트 원본" + sessionKey / clientDateISO까지 함께 저장
         Map<String, Object> payload = new LinkedHashMap<>(req.toPayload());
         payload.put("sessionKey", key);           // 나중에 세션키로 조회 가능하게
         payload.put("clientDateISO", today.toString()); // YYYY-MM-DD (KST today 기준)
 
-        recoLogRepo.insert(RecommendationEventLogRequestDto.builder()
-                .createdAt(null) // null이면 DB now()
+        logWriter.writeRecommendationEvent(RecommendationEventLogRequestDto.builder()
+                .createdAt(null) // null이면 enqueue 시각
                 .userId(null)
                 .sessionKey(key)
                 .recommendationId(recoId)
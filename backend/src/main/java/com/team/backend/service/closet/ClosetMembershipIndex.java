@@ -0,0 +1,56 @@
+// src/main/java/com/team/backend/service/closet/ClosetMembershipIndex.java
+package com.team.backend.service.closet;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.team.backend.common.bitmap.IdBitmap;
+import com.team.backend.repository.closet.ClosetItemQueryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * closet → clothing_item PK(id) membership bitmap
+ * - closet당 closet_item 1회 조회로 적재, ttl-seconds 동안 재사용 (카테고리별 IN-subquery 대신)
+ * - ClothingCatalogIndex가 category/thickness 정렬 배열을 스캔하며 contains로 교차
+ * - closet_item은 현재 seed/migration으로만 바뀜 → TTL(ttl-seconds)로만 반영
+ * - 삭제된 clothing_item id가 남아 있어도 카탈로그 쪽에 없으므로 결과에 영향 없음
+ */
+@Slf4j
+@Component
+public class ClosetMembershipIndex {
+
+    private final ClosetItemQueryRepository closetItemQueryRepository;
+    private final boolean enabled;
+    private final LoadingCache<Long, IdBitmap> bitmaps;
+
+    public ClosetMembershipIndex(
+            ClosetItemQueryRepository closetItemQueryRepository,
+            @Value("${closet.membership-index.enabled:true}") boolean enabled,
+            @Value("${closet.membership-index.ttl-seconds:600}") long ttlSeconds,
+            @Value("${closet.membership-index.max-size:50000}") long maxSize
+    ) {
+        this.closetItemQueryRepository = closetItemQueryRepository;
+        this.enabled = enabled;
+        this.bitmaps = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build(this::load);
+    }
+
+    /**
+     * @return closet 멤버 bitmap, 비활성이면 null (호출부 SQL 경로)
+     */
+    public IdBitmap membersOf(Long closetId) {
+        if (!enabled || closetId == null) return null;
+        return bitmaps.get(closetId);
+    }
+
+    private IdBitmap load(Long closetId) {
+        IdBitmap bitmap = IdBitmap.of(closetItemQueryRepository.findMemberIdsByClosetId(closetId));
+        log.debug("[CLOSET][MEMBERSHIP] loaded closetId={} items={}", closetId, bitmap.cardinality());
+        return bitmap;
+    }
+}
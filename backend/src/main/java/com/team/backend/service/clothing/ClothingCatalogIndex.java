@@ -0,0 +1,430 @@
+// src/main/java/com/team/backend/service/clothing/ClothingCatalogIndex.java
+package com.team.backend.service.clothing;
+
+import com.team.backend.api.dto.clothingItem.ClothingItemRequestDto;
+import com.team.backend.common.bitmap.IdBitmap;
+import com.team.backend.config.CacheNames;
+import com.team.backend.domain.ClothingItem;
+import com.team.backend.domain.enums.ClothingCategory;
+import com.team.backend.repository.clothing.ClothingCatalogJdbcRepository;
+import com.team.backend.repository.clothing.ClothingCatalogJdbcRepository.CatalogRow;
+import com.team.backend.repository.clothing.ClothingItemRepository;
+import com.team.backend.service.closet.ClosetMembershipIndex;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * clothing_item 후보 검색용 in-memory 인덱스 (searchNative와 같은 조건/정렬을 SQL 없이 처리)
+ * - 컬럼은 primitive 배열로 보관, row 순서 = popular 순(selected_count DESC, id DESC)
+ * - category별 popular / latest(created_at DESC, id DESC) row 배열을 미리 정렬해 두고 thickness만 스캔 필터
+ * - 읽기: AtomicReference 1회 read, 쓰기: 전체 재빌드 후 swap (ClothingItemService 변경 훅은 커밋 후 반영)
+ * - popular 순위 = DB selected_count + SelectedCountBuffer 미반영분 (재빌드 시점에 읽은 값, 조회 때마다 읽지 않음)
+ *   → write-behind flush 때마다 증가분을 row에 얹고 재빌드, 순위 지연은 최대 flush-interval-ms
+ * - flush 성공 시 POPULAR_ITEMS 캐시 + 반영된 id의 CLOTHING_ITEM 캐시도 비움 (캐시된 selected_count 지연 최대 flush-interval-ms)
+ * - reload / 변경 훅 / flush는 같은 write lock → DB 반영과 인덱스 반영이 어긋나지 않음
+ * - closet 범위 조회는 ClosetMembershipIndex bitmap과 교차 (closet_item subquery 없음)
+ * - 미적재 / 비활성이면 기존 SQL 경로
+ */
+@Slf4j
+@Component
+public class ClothingCatalogIndex {
+
+    private static final ClothingCategory[] CATEGORIES = ClothingCategory.values();
+    private static final byte ANY = -1;
+    private static final int FLUSH_CHUNK = 1000;
+
+    private final ClothingCatalogJdbcRepository catalogRepo;
+    private final ClothingItemRepository clothingItemRepository;
+    private final ClosetMembershipIndex closetMembershipIndex;
+    private final SelectedCountBuffer selectedCountBuffer;
+    private final CacheManager cacheManager;
+    private final boolean enabled;
+
+    // null = 아직 적재 전
+    private final AtomicReference<Snapshot> ref = new AtomicReference<>();
+    private final Object writeLock = new Object();
+
+    public ClothingCatalogIndex(
+            ClothingCatalogJdbcRepository catalogRepo,
+            ClothingItemRepository clothingItemRepository,
+            ClosetMembershipIndex closetMembershipIndex,
+            SelectedCountBuffer selectedCountBuffer,
+            CacheManager cacheManager,
+            @Value("${clothing.catalog-index.enabled:true}") boolean enabled
+    ) {
+        this.catalogRepo = catalogRepo;
+        this.clothingItemRepository = clothingItemRepository;
+        this.closetMembershipIndex = closetMembershipIndex;
+        this.selectedCountBuffer = selectedCountBuffer;
+        this.cacheManager = cacheManager;
+        this.enabled = enabled;
+    }
+
+    // =========================
+    // 조회
+    // =========================
+
+    /**
+     * 후보 clothing_item PK(id) 목록 (정렬/필터는 ClothingItemRepositoryImpl.searchNative와 동일)
+     */
+    public List<Long> findCandidateIds(Long closetId, ClothingItemRequestDto.SearchCondition cond, int limit) {
+        Snapshot snap = ref.get();
+        if (closetId == null) {
+            return (snap == null)
+                    ? clothingItemRepository.searchCandidateIds(cond, PageRequest.of(0, limit))
+                    : snap.search(cond, limit, null);
+        }
+
+        IdBitmap members = (snap == null) ? null : closetMembershipIndex.membersOf(closetId);
+        if (members == null) {
+            return clothingItemRepository.searchCandidateIdsInCloset(closetId, cond, PageRequest.of(0, limit));
+        }
+        return snap.search(cond, limit, members);
+    }
+
+    /**
+     * category별 상위 perCategory개 후보 (cond.category는 무시)
+     * - 인덱스: category 배열별 스캔, SQL 경로: ROW_NUMBER() 1 쿼리
+     */
+    public Map<ClothingCategory, List<Long>> findCandidateIdsByCategory(
+            Long closetId,
+            Collection<ClothingCategory> categories,
+            ClothingItemRequestDto.SearchCondition cond,
+            int perCategory
+    ) {
+        Snapshot snap = ref.get();
+        IdBitmap members = (snap == null || closetId == null) ? null : closetMembershipIndex.membersOf(closetId);
+        if (snap == null || (closetId != null && members == null)) {
+            return clothingItemRepository.searchTopCandidateIdsPerCategory(closetId, categories, cond, perCategory);
+        }
+
+        Map<ClothingCategory, List<Long>> out = new EnumMap<>(ClothingCategory.class);
+        for (ClothingCategory c : categories) {
+            out.put(c, snap.search(c, cond, perCategory, members));
+        }
+        return out;
+    }
+
+    public boolean exists(long id) {
+        Snapshot snap = ref.get();
+        return (snap == null) ? clothingItemRepository.existsById(id) : snap.rows.containsKey(id);
+    }
+
+    /**
+     * 카탈로그 순위 버전 (today 스냅샷 검증용)
+     * - 증가: 검색 결과 순서(popular/latest) / category / thickness가 바뀔 때, 변경 훅(create/update/delete)이 들어올 때
+     * - 유지: 클릭으로 selected_count만 늘고 순서는 그대로일 때, reload로 같은 내용이 다시 적재될 때
+     *   (selected_count 값 자체는 selectedCountOf로 따로 조회)
+     * @return 미적재면 -1
+     */
+    public long rankingVersion() {
+        Snapshot snap = ref.get();
+        return (snap == null) ? -1 : snap.version;
+    }
+
+    /**
+     * 인덱스 기준 selected_count (DB 반영분, write-behind 미반영분 제외)
+     * @return 미적재 / 없는 id면 null
+     */
+    public Integer selectedCountOf(long id) {
+        Snapshot snap = ref.get();
+        CatalogRow row = (snap == null) ? null : snap.rows.get(id);
+        return (row == null) ? null : row.selectedCount();
+    }
+
+    // =========================
+    // 변경 훅 (ClothingItemService)
+    // =========================
+
+    public void onSaved(ClothingItem e) {
+        if (!enabled || e.getId() == null) return;
+        CatalogRow row = new CatalogRow(
+                e.getId(),
+                e.getClothingId(),
+                e.getCategory(),
+                e.getThicknessLevel(),
+                e.getSelectedCount() == null ? 0 : e.getSelectedCount(),
+                e.getCreatedAt() == null ? System.currentTimeMillis() : e.getCreatedAt().toInstant().toEpochMilli()
+        );
+        // name/image/seasons 등 인덱스에 없는 컬럼이 바뀌었을 수 있으므로 항상 새 버전
+        afterCommit(() -> mutate(rows -> rows.put(row.id(), row), true));
+    }
+
+    public void onDeleted(Long id) {
+        if (!enabled || id == null) return;
+        afterCommit(() -> mutate(rows -> rows.remove(id), true));
+    }
+
+    // =========================
+    // 적재
+    // =========================
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        reload();
+    }
+
+    @Scheduled(
+            fixedDelayString = "${clothing.catalog-index.reload-interval-ms:60000}",
+            initialDelayString = "${clothing.catalog-index.reload-interval-ms:60000}"
+    )
+    public void reload() {
+        if (!enabled) return;
+
+        // 훅과 같은 lock → 적재 중 커밋된 변경은 적재 뒤에 다시 얹힘
+        synchronized (writeLock) {
+            try {
+                long start = System.currentTimeMillis();
+                Map<Long, CatalogRow> rows = new HashMap<>();
+                catalogRepo.streamAll(r -> rows.put(r.id(), r));
+
+                Snapshot prev = ref.get();
+                ref.set(Snapshot.build(rows, prev, selectedCountBuffer::pending, false));
+                if (prev == null) {
+                    log.info("[CLOTHING][INDEX] loaded items={} elapsedMs={}", rows.size(), System.currentTimeMillis() - start);
+                } else {
+                    log.debug("[CLOTHING][INDEX] reloaded items={} elapsedMs={}", rows.size(), System.currentTimeMillis() - start);
+                }
+            } catch (Exception e) {
+                log.warn("[CLOTHING][INDEX] reload 실패 (기존 스냅샷/SQL 경로 유지): {}", e.getMessage());
+            }
+        }
+    }
+
+    private void mutate(Consumer<Map<Long, CatalogRow>> change, boolean newVersion) {
+        synchronized (writeLock) {
+            Snapshot cur = ref.get();
+            if (cur == null) return; // 적재 전이면 적재 시 DB에서 같이 읽힘
+
+            Map<Long, CatalogRow> rows = new HashMap<>(cur.rows);
+            change.accept(rows);
+            ref.set(Snapshot.build(rows, cur, selectedCountBuffer::pending, newVersion));
+        }
+    }
+
+    // =========================
+    // selected_count write-behind flush
+    // =========================
+
+    @Scheduled(fixedDelayString = "${clothing.selected-count.flush-interval-ms:5000}")
+    public void flushSelectedCounts() {
+        synchronized (writeLock) {
+            List<Map.Entry<Long, Long>> batch = selectedCountBuffer.drain();
+            if (batch.isEmpty()) return;
+
+            long start = System.currentTimeMillis();
+            Map<Long, Long> applied = new HashMap<>();
+            for (int from = 0; from < batch.size(); from += FLUSH_CHUNK) {
+                List<Map.Entry<Long, Long>> chunk = batch.subList(from, Math.min(from + FLUSH_CHUNK, batch.size()));
+                try {
+                    catalogRepo.addSelectedCounts(chunk);
+                    chunk.forEach(e -> applied.put(e.getKey(), e.getValue()));
+                } catch (Exception e) {
+                    // 실패분은 버퍼로 되돌려 다음 flush에 재시도
+                    log.warn("[CLOTHING][SELECTED] flush failed size={} msg={}", chunk.size(), e.getMessage());
+                    selectedCountBuffer.restore(chunk);
+                }
+            }
+
+            if (!applied.isEmpty() && ref.get() != null) {
+                mutate(rows -> applied.forEach((id, delta) -> rows.computeIfPresent(id, (k, r) -> new CatalogRow(
+                        r.id(), r.clothingId(), r.category(), r.thicknessLevel(),
+                        r.selectedCount() + Math.toIntExact(delta), r.createdAtEpochMs()))), false);
+            }
+            if (!applied.isEmpty()) evictSelectedCountCaches(applied.keySet());
+            log.debug("[CLOTHING][SELECTED] flushed items={} elapsedMs={}", applied.size(), System.currentTimeMillis() - start);
+        }
+    }
+
+    /**
+     * selected_count가 DB에 반영된 뒤 그 값을 들고 있는 캐시 정리
+     * - CLOTHING_ITEM(getById): 반영된 id만 evict
+     * - POPULAR_ITEMS(getPopular*): 순위가 바뀌었을 수 있으므로 전체 clear
+     */
+    void evictSelectedCountCaches(Collection<Long> ids) {
+        Cache items = cacheManager.getCache(CacheNames.CLOTHING_ITEM);
+        if (items != null) ids.forEach(items::evict);
+
+        Cache popular = cacheManager.getCache(CacheNames.POPULAR_ITEMS);
+        if (popular != null) popular.clear();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flushSelectedCounts();
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+            return;
+        }
+        action.run();
+    }
+
+    // =========================
+    // Snapshot (immutable)
+    // =========================
+    private static final class Snapshot {
+
+        final Map<Long, CatalogRow> rows;
+        final long version;
+
+        // row r = popular 순위 r
+        final long[] ids;
+        final byte[] category;
+        final byte[] thickness;
+        final long[] createdAt;
+
+        final int[] latest;
+        final int[][] popularByCategory;
+        final int[][] latestByCategory;
+        final Map<Long, Integer> rowByClothingId;
+
+        private Snapshot(Map<Long, CatalogRow> rows, Snapshot prev, LongUnaryOperator pendingSelected, boolean newVersion) {
+            this.rows = rows;
+
+            // popular = DB selected_count + 미반영 증가분
+            Map<Long, Long> popularity = new HashMap<>(rows.size() * 2);
+            rows.values().forEach(r -> popularity.put(r.id(), r.selectedCount() + pendingSelected.applyAsLong(r.id())));
+
+            CatalogRow[] sorted = rows.values().toArray(new CatalogRow[0]);
+            Arrays.sort(sorted, Comparator
+                    .comparingLong((CatalogRow r) -> popularity.get(r.id())).reversed()
+                    .thenComparing(Comparator.comparingLong(CatalogRow::id).reversed()));
+
+            int n = sorted.length;
+            this.ids = new long[n];
+            this.category = new byte[n];
+            this.thickness = new byte[n];
+            this.createdAt = new long[n];
+            this.rowByClothingId = new HashMap<>(n * 2);
+
+            for (int r = 0; r < n; r++) {
+                CatalogRow row = sorted[r];
+                ids[r] = row.id();
+                category[r] = (byte) row.category().ordinal();
+                thickness[r] = (byte) row.thicknessLevel().ordinal();
+                createdAt[r] = row.createdAtEpochMs();
+                rowByClothingId.put(row.clothingId(), r);
+            }
+
+            this.latest = sortLatest(identity(n));
+
+            this.popularByCategory = new int[CATEGORIES.length][];
+            this.latestByCategory = new int[CATEGORIES.length][];
+            for (ClothingCategory c : CATEGORIES) {
+                int[] popular = filterCategory(identity(n), (byte) c.ordinal());
+                popularByCategory[c.ordinal()] = popular;
+                latestByCategory[c.ordinal()] = sortLatest(popular);
+            }
+
+            this.version = (prev == null) ? 1 : ((!newVersion && sameRanking(prev)) ? prev.version : prev.version + 1);
+        }
+
+        static Snapshot build(Map<Long, CatalogRow> rows, Snapshot prev, LongUnaryOperator pendingSelected, boolean newVersion) {
+            return new Snapshot(Collections.unmodifiableMap(rows), prev, pendingSelected, newVersion);
+        }
+
+        /** 어떤 조건으로 검색해도 결과가 같은지 (popular/latest 순서 + 필터 컬럼, selected_count 값 자체는 비교 안 함) */
+        private boolean sameRanking(Snapshot other) {
+            return Arrays.equals(ids, other.ids)
+                    && Arrays.equals(category, other.category)
+                    && Arrays.equals(thickness, other.thickness)
+                    && Arrays.equals(latest, other.latest);
+        }
+
+        List<Long> search(ClothingItemRequestDto.SearchCondition cond, int limit, IdBitmap members) {
+            return search((cond == null) ? null : cond.getCategory(), cond, limit, members);
+        }
+
+        /**
+         * @param wantCategory null이면 전체 category
+         * @param members      closet 범위 제한 (null이면 전역)
+         */
+        List<Long> search(ClothingCategory wantCategory, ClothingItemRequestDto.SearchCondition cond, int limit, IdBitmap members) {
+            if (limit <= 0) return List.of();
+            if (members != null && members.isEmpty()) return List.of();
+
+            byte wantThickness = (cond == null || cond.getThicknessLevel() == null)
+                    ? ANY : (byte) cond.getThicknessLevel().ordinal();
+
+            // clothingId 지정: 단건 lookup 후 나머지 조건 확인
+            if (cond != null && cond.getClothingId() != null) {
+                Integer r = rowByClothingId.get(cond.getClothingId());
+                if (r == null) return List.of();
+                if (wantCategory != null && category[r] != wantCategory.ordinal()) return List.of();
+                if (wantThickness != ANY && thickness[r] != wantThickness) return List.of();
+                if (members != null && !members.contains(ids[r])) return List.of();
+                return List.of(ids[r]);
+            }
+
+            boolean latestSort = cond != null && "latest".equalsIgnoreCase(cond.getSort());
+            int[] order;
+            if (wantCategory == null) {
+                order = latestSort ? latest : null; // null = 0..n-1 (popular)
+            } else {
+                order = latestSort ? latestByCategory[wantCategory.ordinal()] : popularByCategory[wantCategory.ordinal()];
+            }
+
+            int size = (order == null) ? ids.length : order.length;
+            List<Long> out = new ArrayList<>(Math.min(limit, size));
+            for (int i = 0; i < size && out.size() < limit; i++) {
+                int r = (order == null) ? i : order[i];
+                if (wantThickness != ANY && thickness[r] != wantThickness) continue;
+                if (members != null && !members.contains(ids[r])) continue;
+                out.add(ids[r]);
+            }
+            return out;
+        }
+
+        private int[] filterCategory(int[] rowsInOrder, byte c) {
+            int count = 0;
+            for (int r : rowsInOrder) if (category[r] == c) count++;
+
+            int[] out = new int[count];
+            int i = 0;
+            for (int r : rowsInOrder) if (category[r] == c) out[i++] = r;
+            return out;
+        }
+
+        private int[] sortLatest(int[] rowsIn) {
+            Integer[] boxed = new Integer[rowsIn.length];
+            for (int i = 0; i < rowsIn.length; i++) boxed[i] = rowsIn[i];
+            Arrays.sort(boxed, (a, b) -> {
+                int cmp = Long.compare(createdAt[b], createdAt[a]);
+                return (cmp != 0) ? cmp : Long.compare(ids[b], ids[a]);
+            });
+
+            int[] out = new int[boxed.length];
+            for (int i = 0; i < boxed.length; i++) out[i] = boxed[i];
+            return out;
+        }
+
+        private static int[] identity(int n) {
+            int[] out = new int[n];
+            for (int i = 0; i < n; i++) out[i] = i;
+            return out;
+        }
+    }
+}
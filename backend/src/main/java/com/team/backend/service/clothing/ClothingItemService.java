@@ -4,12 +4,17 @@ package com.team.backend.service.clothing;
 import com.team.backend.api.dto.clothingItem.ClothingItemRequestDto;
 import com.team.backend.api.dto.clothingItem.ClothingItemResponseDto;
 import com.team.backend.api.dto.clothingItem.ClothingItemSummaryDto;
+import com.team.backend.config.CacheNames;
 import com.team.backend.domain.ClothingItem;
 import com.team.backend.domain.enums.ClothingCategory;
+import com.team.backend.repository.clothing.ClothingCatalogJdbcRepository;
 import com.team.backend.repository.clothing.ClothingItemRepository;
 import jakarta.persistence.EntityNotFoundException;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,6 +32,9 @@ public class ClothingItemService {
     private static final int MAX_LIMIT = 50;
 
     private final ClothingItemRepository clothingItemRepository;
+    private final ClothingCatalogIndex catalogIndex;
+    private final SelectedCountBuffer selectedCountBuffer;
+    private final ClothingCatalogJdbcRepository catalogJdbcRepository;
 
     // ==============================
     // 0) 전체 조회: GET /api/clothes
@@ -74,6 +82,7 @@ public class ClothingItemService {
     // ==============================
     // Create: POST /api/clothes
     // ==============================
+    @CacheEvict(value = CacheNames.POPULAR_ITEMS, allEntries = true)
     public ClothingItemResponseDto create(@Valid ClothingItemRequestDto.Create req) {
         if (req.getClothingId() == null) throw new IllegalArgumentException("clothingId는 필수입니다.");
         if (clothingItemRepository.existsByClothingId(req.getClothingId())) {
@@ -99,6 +108,7 @@ public class ClothingItemService {
                 .build();
 
         ClothingItem saved = clothingItemRepository.save(entity);
+        catalogIndex.onSaved(saved);
         return ClothingItemResponseDto.from(saved);
     }
 
@@ -107,6 +117,7 @@ public class ClothingItemService {
     // - 옵션 B 정책: favorited=false
     // ==============================
     @Transactional(readOnly = true)
+    @Cacheable(value = CacheNames.CLOTHING_ITEM, key = "#id")
     public ClothingItemResponseDto getById(Long id) {
         ClothingItem e = clothingItemRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("ClothingItem을 찾을 수 없습니다. id=" + id));
@@ -118,6 +129,10 @@ public class ClothingItemService {
     // ==============================
     // Update: PATCH /api/clothes/{id}
     // ==============================
+    @Caching(evict = {
+            @CacheEvict(value = CacheNames.CLOTHING_ITEM, key = "#id"),
+            @CacheEvict(value = CacheNames.POPULAR_ITEMS, allEntries = true)
+    })
     public ClothingItemResponseDto update(Long id, @Valid ClothingItemRequestDto.Update req) {
         ClothingItem e = clothingItemRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("ClothingItem을 찾을 수 없습니다. id=" + id));
@@ -130,17 +145,23 @@ public class ClothingItemService {
         if (req.getSeasons() != null) {
             e.replaceSeasons(req.getSeasons());
         }
+        catalogIndex.onSaved(e);
         return ClothingItemResponseDto.from(e);
     }
 
     // ==============================
     // Delete: DELETE /api/clothes/{id}
     // ==============================
+    @Caching(evict = {
+            @CacheEvict(value = CacheNames.CLOTHING_ITEM, key = "#id"),
+            @CacheEvict(value = CacheNames.POPULAR_ITEMS, allEntries = true)
+    })
     public void delete(Long id) {
         if (!clothingItemRepository.existsById(id)) {
             throw new EntityNotFoundException("삭제할 옷을 찾을 수 없습니다. id=" + id);
         }
         clothingItemRepository.deleteById(id);
+        catalogIndex.onDeleted(id);
     }
 
     // ==============================
@@ -175,7 +196,7 @@ public class ClothingItemService {
                         .build()
                         : req.toCondition();
 
-        List<Long> ids = clothingItemRepository.searchCandidateIds(cond, pageable);
+        List<Long> ids = catalogIndex.findCandidateIds(null, cond, pageable.getPageSize());
         return fetchOrderedDtos(ids);
     }
 
@@ -199,8 +220,11 @@ public class ClothingItemService {
     // ==============================
     // Popular
     // - 옵션 B 정책: favorited=false
+    // - DB selected_count 기준 → write-behind 미반영 클릭은 빠짐, flush 성공 시 ClothingCatalogIndex가 캐시를 비움 (getById 캐시도 해당 id evict)
+    //   (인기 목록 지연은 최대 clothing.selected-count.flush-interval-ms)
     // ==============================
     @Transactional(readOnly = true)
+    @Cacheable(value = CacheNames.POPULAR_ITEMS, key = "'all:' + #limit")
     public List<ClothingItemResponseDto> getPopular(int limit) {
         int resolved = clamp(limit);
         Pageable pageable = PageRequest.of(0, resolved);
@@ -214,6 +238,7 @@ public class ClothingItemService {
     }
 
     @Transactional(readOnly = true)
+    @Cacheable(value = CacheNames.POPULAR_ITEMS, key = "#category + ':' + #limit")
     public List<ClothingItemResponseDto> getPopularByCategory(ClothingCategory category, int limit) {
         int resolved = clamp(limit);
         Pageable pageable = PageRequest.of(0, resolved);
@@ -228,10 +253,17 @@ public class ClothingItemService {
 
     // ==============================
     // SelectedCount
+    // - write-behind: 증가분은 SelectedCountBuffer에 모았다가 ClothingCatalogIndex가 주기적으로 배치 UPDATE
     // ==============================
     public void markSelected(Long id) {
-        int updated = clothingItemRepository.incrementSelectedCount(id);
+        if (id == null || !catalogIndex.exists(id)) {
+            throw new EntityNotFoundException("ClothingItem을 찾을 수 없습니다. id=" + id);
+        }
+        if (selectedCountBuffer.tryBuffer(id)) return;
+
+        int updated = catalogJdbcRepository.addSelectedCounts(List.of(Map.entry(id, 1L)));
         if (updated == 0) throw new EntityNotFoundException("ClothingItem을 찾을 수 없습니다. id=" + id);
+        catalogIndex.evictSelectedCountCaches(List.of(id));
     }
 
     private int clamp(int v) {
@@ -0,0 +1,78 @@
+// src/main/java/com/team/backend/service/clothing/SelectedCountBuffer.java
+package com.team.backend.service.clothing;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * selected_count write-behind 카운터 (clothing_item id별 LongAdder)
+ * - 선택 1건 = adder 증가만 (row lock / persistence context clear 없음)
+ * - flush는 ClothingCatalogIndex가 인덱스 write lock 안에서 drain → 배치 UPDATE → 인덱스 반영 (reload와 이중 반영 방지)
+ * - drain은 읽은 값만큼 빼는 방식이라 drain 도중 들어온 증가분은 남아서 다음 flush로 감
+ * - adder는 id별로 계속 재사용 (id 수 = 카탈로그 크기로 제한됨)
+ */
+@Component
+public class SelectedCountBuffer {
+
+    private final boolean enabled;
+    private final ConcurrentHashMap<Long, LongAdder> counters = new ConcurrentHashMap<>();
+
+    public SelectedCountBuffer(
+            MeterRegistry meterRegistry,
+            @Value("${clothing.selected-count.write-behind.enabled:true}") boolean enabled
+    ) {
+        this.enabled = enabled;
+        Gauge.builder("clothing.selected_count.pending", this, SelectedCountBuffer::pendingTotal).register(meterRegistry);
+    }
+
+    /**
+     * @return true면 버퍼에 흡수됨, false면 호출부에서 동기 UPDATE 필요
+     */
+    public boolean tryBuffer(long id) {
+        if (!enabled) return false;
+        counters.computeIfAbsent(id, k -> new LongAdder()).increment();
+        return true;
+    }
+
+    /** 아직 DB에 반영 안 된 증가분 (인기 순위 계산용) */
+    public long pending(long id) {
+        LongAdder adder = counters.get(id);
+        return (adder == null) ? 0 : adder.sum();
+    }
+
+    /**
+     * flush 대상 꺼내기 (id 오름차순 → 인스턴스 간 row lock 순서 고정)
+     */
+    List<Map.Entry<Long, Long>> drain() {
+        List<Map.Entry<Long, Long>> batch = new ArrayList<>();
+        counters.forEach((id, adder) -> {
+            long delta = adder.sum();
+            if (delta == 0) return;
+            adder.add(-delta);
+            batch.add(Map.entry(id, delta));
+        });
+        batch.sort(Map.Entry.comparingByKey());
+        return batch;
+    }
+
+    /** flush 실패분 되돌리기 → 다음 flush에서 재시도 */
+    void restore(List<Map.Entry<Long, Long>> batch) {
+        for (Map.Entry<Long, Long> e : batch) {
+            counters.computeIfAbsent(e.getKey(), k -> new LongAdder()).add(e.getValue());
+        }
+    }
+
+    private double pendingTotal() {
+        long total = 0;
+        for (LongAdder adder : counters.values()) total += adder.sum();
+        return total;
+    }
+}
@@ -1,10 +1,13 @@
 // src/main/java/com/team/backend/service/favorite/FavoriteService.java
 package com.team.backend.service.favorite;
 
+import com.team.backend.config.CacheNames;
 import com.team.backend.domain.FavoriteItem;
 import com.team.backend.repository.favorite.FavoriteRepository;
 import com.team.backend.service.session.SessionService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -19,6 +22,7 @@ public class FavoriteService {
     private final FavoriteRepository favoriteRepository;
 
     // WRITE
+    @CacheEvict(value = CacheNames.FAVORITE_IDS, key = "#sessionKey.trim()", condition = "#sessionKey != null")
     public void add(String sessionKey, Long clothingId) {
         String key = sessionService.validateOnly(sessionKey);
         sessionService.ensureSession(key);
@@ -29,6 +33,7 @@ public class FavoriteService {
         favoriteRepository.save(FavoriteItem.builder().sessionKey(key).clothingId(clothingId).build());
     }
 
+    @CacheEvict(value = CacheNames.FAVORITE_IDS, key = "#sessionKey.trim()", condition = "#sessionKey != null")
     public void remove(String sessionKey, Long clothingId) {
         String key = sessionService.validateOnly(sessionKey);
         sessionService.ensureSession(key);
@@ -39,9 +44,10 @@ public class FavoriteService {
 
     // READ
     @Transactional(readOnly = true)
+    @Cacheable(value = CacheNames.FAVORITE_IDS, key = "#sessionKey.trim()", condition = "#sessionKey != null")
     public List<Long> listFavoriteClothingIds(String sessionKey) {
         String key = sessionService.validateOnly(sessionKey);
-        return favoriteRepository.findClothingIdsBySessionKey(key);
+        return List.copyOf(favoriteRepository.findClothingIdsBySessionKey(key));
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,313 @@
+// src/main/java/com/team/backend/service/log/AsyncLogWriter.java
+package com.team.backend.service.log;
+
+import com.team.backend.api.dto.log.ItemClickLogCreateRequestDto;
+import com.team.backend.api.dto.log.RecommendationEventLogRequestDto;
+import com.team.backend.api.dto.log.SessionLogRequestDto;
+import com.team.backend.repository.log.ItemClickLogJdbcRepository;
+import com.team.backend.repository.log.RecommendationEventLogJdbcRepository;
+import com.team.backend.repository.log.SessionLogJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로그 비동기 배치 writer (recommendation_event_log / session_log / item_click_log)
+ * - 요청 스레드는 bounded queue에 넣기만 하고, flusher 스레드가 batchSize 또는 flushIntervalMs 단위로 batch insert
+ * - createdAt은 enqueue 시각으로 고정 (flush 지연이 이벤트 시각에 섞이지 않도록)
+ * - 트랜잭션 안에서 호출되면 커밋 후 enqueue (롤백된 요청의 로그는 남기지 않음 = 기존 동기 insert와 동일)
+ * - queue 가득 참: overflowPolicy = DROP(버림) / BLOCK(blockTimeoutMs 대기 후 버림) / SYNC(호출 스레드에서 바로 insert)
+ */
+@Slf4j
+@Component
+public class AsyncLogWriter {
+
+    public enum OverflowPolicy {DROP, BLOCK, SYNC}
+
+    private enum Kind {RECO_EVENT, SESSION, ITEM_CLICK}
+
+    private record Pending(Kind kind, Object row) {
+    }
+
+    // stop() 신호 (flusher를 interrupt하지 않고 poll에서 깨우기 위한 poison pill)
+    private static final Pending STOP = new Pending(null, null);
+
+    private final RecommendationEventLogJdbcRepository recoRepo;
+    private final SessionLogJdbcRepository sessionRepo;
+    private final ItemClickLogJdbcRepository clickRepo;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final OverflowPolicy overflowPolicy;
+    private final long blockTimeoutMs;
+
+    private final BlockingQueue<Pending> queue;
+    private final Timer flushTimer;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public AsyncLogWriter(
+            RecommendationEventLogJdbcRepository recoRepo,
+            SessionLogJdbcRepository sessionRepo,
+            ItemClickLogJdbcRepository clickRepo,
+            MeterRegistry meterRegistry,
+            @Value("${log.async.enabled:true}") boolean enabled,
+            @Value("${log.async.queue-capacity:10000}") int queueCapacity,
+            @Value("${log.async.batch-size:500}") int batchSize,
+            @Value("${log.async.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${log.async.overflow-policy:BLOCK}") OverflowPolicy overflowPolicy,
+            @Value("${log.async.block-timeout-ms:50}") long blockTimeoutMs
+    ) {
+        log.info("[LOG][CONFIG][AsyncWriter] enabled={}, queueCapacity={}, batchSize={}, flushIntervalMs={}, overflowPolicy={}",
+                enabled, queueCapacity, batchSize, flushIntervalMs, overflowPolicy);
+
+        this.recoRepo = recoRepo;
+        this.sessionRepo = sessionRepo;
+        this.clickRepo = clickRepo;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMs = Math.max(1, flushIntervalMs);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutMs = blockTimeoutMs;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, queueCapacity));
+
+        Gauge.builder("log.async.queue.depth", queue, BlockingQueue::size).register(meterRegistry);
+        this.flushTimer = Timer.builder("log.async.flush").publishPercentiles(0.5, 0.99).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) return;
+        running = true;
+        flusher = new Thread(this::runLoop, "log-flusher");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    /**
+     * interrupt 대신 running=false + poison pill
+     * - interrupt가 poll / JDBC 도중에 걸려 이미 꺼낸 batch를 버리는 일이 없도록
+     * - flusher가 만들던 batch + queue 잔여분을 flusher 스레드가 flush하고 끝냄
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        if (flusher == null) return;
+        running = false;
+        // queue가 가득 차 있으면 pill 없이도 poll이 바로 깨어남
+        queue.offer(STOP);
+        flusher.join(5_000);
+        if (flusher.isAlive()) {
+            log.warn("[LOG][ASYNC] flusher did not finish in time, remaining={}", queue.size());
+            return;
+        }
+        // flusher 종료 뒤 afterCommit 등으로 늦게 들어온 것
+        drainAndFlush();
+    }
+
+    // ==============================
+    // enqueue API
+    // ==============================
+
+    public void writeRecommendationEvent(RecommendationEventLogRequestDto dto) {
+        RecommendationEventLogRequestDto row = dto.getCreatedAt() != null ? dto
+                : dto.toBuilder().createdAt(OffsetDateTime.now()).build();
+        submit(new Pending(Kind.RECO_EVENT, row));
+    }
+
+    public void writeSessionLog(SessionLogRequestDto dto) {
+        SessionLogRequestDto row = dto.getCreatedAt() != null ? dto
+                : SessionLogRequestDto.builder()
+                .createdAt(OffsetDateTime.now())
+                .userId(dto.getUserId())
+                .sessionKey(dto.getSessionKey())
+                .eventType(dto.getEventType())
+                .payload(dto.getPayload())
+                .build();
+        submit(new Pending(Kind.SESSION, row));
+    }
+
+    public void writeItemClick(ItemClickLogCreateRequestDto dto, String funnelStep) {
+        ItemClickLogCreateRequestDto row = dto.getCreatedAt() != null ? dto
+                : ItemClickLogCreateRequestDto.builder()
+                .createdAt(OffsetDateTime.now())
+                .userId(dto.getUserId())
+                .sessionKey(dto.getSessionKey())
+                .recommendationId(dto.getRecommendationId())
+                .recommendationUuid(dto.getRecommendationUuid())
+                .clothingItemId(dto.getClothingItemId())
+                .eventType(dto.getEventType())
+                .payload(dto.getPayload())
+                .build();
+        submit(new Pending(Kind.ITEM_CLICK, new ItemClickLogJdbcRepository.ClickRow(row, funnelStep)));
+    }
+
+    private void submit(Pending p) {
+        if (!enabled) {
+            flushKind(p.kind(), List.of(p.row()));
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    offer(p);
+                }
+            });
+            return;
+        }
+        offer(p);
+    }
+
+    private void offer(Pending p) {
+        if (queue.offer(p)) return;
+
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                try {
+                    if (queue.offer(p, blockTimeoutMs, TimeUnit.MILLISECONDS)) return;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                dropped(p);
+            }
+            case SYNC -> {
+                try {
+                    flushKind(p.kind(), List.of(p.row()));
+                } catch (Exception e) {
+                    failed(p.kind(), 1, e);
+                }
+            }
+            default -> dropped(p);
+        }
+    }
+
+    // ==============================
+    // flusher
+    // ==============================
+
+    private void runLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        boolean stop = false;
+        while (!stop) {
+            try {
+                Pending first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    stop = !running;
+                    continue;
+                }
+                if (first == STOP) break;
+                batch.add(first);
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    if (batch.removeIf(p -> p == STOP)) {
+                        stop = true;
+                        break;
+                    }
+                    if (batch.size() >= batchSize) break;
+
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) break;
+                    Pending next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    if (next == STOP) {
+                        stop = true;
+                        break;
+                    }
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                // 외부 interrupt도 종료 신호로 취급 (꺼낸 batch는 아래에서 flush)
+                stop = true;
+            }
+
+            try {
+                if (!batch.isEmpty()) flush(batch);
+            } catch (Exception e) {
+                log.warn("[LOG][ASYNC] flush loop error", e);
+            } finally {
+                batch.clear();
+            }
+            if (!running) stop = true;
+        }
+        drainAndFlush();
+    }
+
+    /** queue 잔여분을 batchSize 단위로 flush (종료 시) */
+    private void drainAndFlush() {
+        List<Pending> rest = new ArrayList<>(batchSize);
+        while (queue.drainTo(rest, batchSize) > 0) {
+            rest.removeIf(p -> p == STOP);
+            if (!rest.isEmpty()) flush(rest);
+            rest.clear();
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        Map<Kind, List<Object>> byKind = new EnumMap<>(Kind.class);
+        for (Pending p : batch) {
+            byKind.computeIfAbsent(p.kind(), k -> new ArrayList<>()).add(p.row());
+        }
+
+        flushTimer.record(() -> byKind.forEach((kind, rows) -> {
+            try {
+                flushKind(kind, rows);
+                counter("log.async.written", kind).increment(rows.size());
+            } catch (Exception e) {
+                // batch 실패 → 한 건씩 재시도해서 문제 row만 버림
+                log.warn("[LOG][ASYNC] batch insert failed kind={}, size={} → row 단위 재시도. msg={}",
+                        kind, rows.size(), e.getMessage());
+                for (Object row : rows) {
+                    try {
+                        flushKind(kind, List.of(row));
+                        counter("log.async.written", kind).increment();
+                    } catch (Exception rowEx) {
+                        failed(kind, 1, rowEx);
+                    }
+                }
+            }
+        }));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void flushKind(Kind kind, List<?> rows) {
+        switch (kind) {
+            case RECO_EVENT -> recoRepo.insertBatch((List<RecommendationEventLogRequestDto>) rows);
+            case SESSION -> sessionRepo.insertBatch((List<SessionLogRequestDto>) rows);
+            case ITEM_CLICK -> clickRepo.insertBatch((List<ItemClickLogJdbcRepository.ClickRow>) rows);
+        }
+    }
+
+    private void dropped(Pending p) {
+        counter("log.async.dropped", p.kind()).increment();
+        log.warn("[LOG][ASYNC] queue full → drop kind={}, policy={}", p.kind(), overflowPolicy);
+    }
+
+    private void failed(Kind kind, int n, Exception e) {
+        counter("log.async.failed", kind).increment(n);
+        log.warn("[LOG][ASYNC] insert failed kind={}, msg={}", kind, e.getMessage());
+    }
+
+    private Counter counter(String name, Kind kind) {
+        return Counter.builder(name).tag("kind", kind.name()).register(meterRegistry);
+    }
+}
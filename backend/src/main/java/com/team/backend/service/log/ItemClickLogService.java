@@ -2,7 +2,7 @@ package com.team.backend.service.log;
 
 import com.team.backend.api.dto.log.ItemClickLogCreateRequestDto;
 import com.team.backend.domain.enums.log.ItemClickEventType;
-import com.team.backend.repository.log.ItemClickLogJdbcRepository;
+import com.team.backend.repository.log.ItemClickLogJdbcRepository.ClickRow;
 import com.team.backend.service.session.SessionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,9 +15,18 @@ import java.util.Objects;
 public class ItemClickLogService {
 
     private final SessionService sessionService;
-    private final ItemClickLogJdbcRepository repo;
+    private final AsyncLogWriter logWriter;
 
     public void write(ItemClickLogCreateRequestDto dto) {
+        ClickRow row = normalize(dto);
+        sessionService.ensureSession(row.dto().getSessionKey());
+        logWriter.writeItemClick(row.dto(), row.funnelStep());
+    }
+
+    /**
+     * 검증 + 정규화만 (저장/세션 ensure 없음) - 단건 write / batch ingest 공용
+     */
+    public ClickRow normalize(ItemClickLogCreateRequestDto dto) {
         if (dto == null) throw new IllegalArgumentException("dto is null");
         if (dto.getSessionKey() == null || dto.getSessionKey().isBlank())
             throw new IllegalArgumentException("sessionKey is required");
@@ -33,9 +42,8 @@ public class ItemClickLogService {
             throw new IllegalArgumentException("invalid eventType. allowed=" + java.util.Arrays.toString(ItemClickEventType.values()));
         }
 
-        // ✅ session normalize + ensure
+        // ✅ session normalize
         String key = sessionService.validateOnly(dto.getSessionKey());
-        sessionService.ensureSession(key);
 
         // ✅ feedbackId(UUID) 없으면 클릭을 추천과 묶을 수 없음 -> 400
         if (dto.getRecommendationUuid() == null) {
@@ -76,6 +84,6 @@ public class ItemClickLogService {
                 .payload(payload)
                 .build();
 
-        repo.insert(fixed, funnelStep);
+        return new ClickRow(fixed, funnelStep);
     }
 }
\ No newline at end of file
@@ -0,0 +1,198 @@
+// src/main/java/com/team/backend/service/log/LogBatchIngestService.java
+package com.team.backend.service.log;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.team.backend.api.dto.log.ItemClickLogCreateRequestDto;
+import com.team.backend.api.dto.log.LogBatchIngestResponseDto;
+import com.team.backend.api.dto.log.LogBatchIngestResponseDto.EventStatus;
+import com.team.backend.api.dto.log.LogBatchIngestResponseDto.Status;
+import com.team.backend.api.dto.log.RecommendationEventLogRequestDto;
+import com.team.backend.api.dto.log.SessionLogRequestDto;
+import com.team.backend.repository.log.ItemClickLogJdbcRepository.ClickRow;
+import com.team.backend.repository.log.LogCopyJdbcRepository;
+import com.team.backend.service.session.SessionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 클라이언트 텔레메트리 batch ingest (JSON 배열 / NDJSON)
+ * - 이벤트별 검증은 단건 API와 같은 normalize 사용 → 실패한 이벤트만 REJECTED
+ * - 통과한 이벤트는 COPY FROM STDIN 1회로 bulk load, 세션 ensure는 세션키별 1회
+ * - 응답: 이벤트 index별 ACCEPTED / REJECTED / FAILED
+ */
+@Slf4j
+@Service
+public class LogBatchIngestService {
+
+    private final ItemClickLogService itemClickLogService;
+    private final SessionLogService sessionLogService;
+    private final RecommendationEventLogService recoEventLogService;
+    private final SessionService sessionService;
+    private final LogCopyJdbcRepository copyRepo;
+    private final ObjectMapper objectMapper;
+    private final int maxEvents;
+
+    public LogBatchIngestService(
+            ItemClickLogService itemClickLogService,
+            SessionLogService sessionLogService,
+            RecommendationEventLogService recoEventLogService,
+            SessionService sessionService,
+            LogCopyJdbcRepository copyRepo,
+            ObjectMapper objectMapper,
+            @Value("${log.batch.max-events:1000}") int maxEvents
+    ) {
+        this.itemClickLogService = itemClickLogService;
+        this.sessionLogService = sessionLogService;
+        this.recoEventLogService = recoEventLogService;
+        this.sessionService = sessionService;
+        this.copyRepo = copyRepo;
+        this.objectMapper = objectMapper;
+        this.maxEvents = maxEvents;
+    }
+
+    private record Parsed<T>(T value, String error) {
+    }
+
+    // ==============================
+    // item_click_log
+    // ==============================
+
+    public LogBatchIngestResponseDto ingestClicks(List<ItemClickLogCreateRequestDto> events, String headerSessionKey) {
+        return ingestClicksParsed(wrap(events), headerSessionKey);
+    }
+
+    public LogBatchIngestResponseDto ingestClicksNdjson(String body, String headerSessionKey) {
+        return ingestClicksParsed(parseNdjson(body, ItemClickLogCreateRequestDto.class), headerSessionKey);
+    }
+
+    private LogBatchIngestResponseDto ingestClicksParsed(List<Parsed<ItemClickLogCreateRequestDto>> events, String header) {
+        return ingest(events,
+                dto -> itemClickLogService.normalize(dto.fillSessionKeyIfMissing(header)),
+                row -> row.dto().getSessionKey(),
+                copyRepo::copyItemClicks,
+                "item_click_log");
+    }
+
+    // ==============================
+    // session_log
+    // ==============================
+
+    public LogBatchIngestResponseDto ingestSessions(List<SessionLogRequestDto> events, String headerSessionKey) {
+        return ingestSessionsParsed(wrap(events), headerSessionKey);
+    }
+
+    public LogBatchIngestResponseDto ingestSessionsNdjson(String body, String headerSessionKey) {
+        return ingestSessionsParsed(parseNdjson(body, SessionLogRequestDto.class), headerSessionKey);
+    }
+
+    private LogBatchIngestResponseDto ingestSessionsParsed(List<Parsed<SessionLogRequestDto>> events, String header) {
+        return ingest(events,
+                dto -> sessionLogService.normalize(dto.fillSessionKeyIfMissing(header)),
+                SessionLogRequestDto::getSessionKey,
+                copyRepo::copySessionLogs,
+                "session_log");
+    }
+
+    // ==============================
+    // recommendation_event_log
+    // ==============================
+
+    public LogBatchIngestResponseDto ingestRecoEvents(List<RecommendationEventLogRequestDto> events, String headerSessionKey) {
+        return ingestRecoEventsParsed(wrap(events), headerSessionKey);
+    }
+
+    public LogBatchIngestResponseDto ingestRecoEventsNdjson(String body, String headerSessionKey) {
+        return ingestRecoEventsParsed(parseNdjson(body, RecommendationEventLogRequestDto.class), headerSessionKey);
+    }
+
+    private LogBatchIngestResponseDto ingestRecoEventsParsed(List<Parsed<RecommendationEventLogRequestDto>> events, String header) {
+        return ingest(events,
+                dto -> recoEventLogService.normalize(dto.fillSessionKeyIfMissing(header)),
+                RecommendationEventLogRequestDto::getSessionKey,
+                copyRepo::copyRecommendationEvents,
+                "recommendation_event_log");
+    }
+
+    // ==============================
+    // core
+    // ==============================
+
+    private <T, R> LogBatchIngestResponseDto ingest(
+            List<Parsed<T>> events,
+            Function<T, R> normalize,
+            Function<R, String> sessionKeyOf,
+            Consumer<List<R>> copy,
+            String table
+    ) {
+        if (events.isEmpty()) throw new IllegalArgumentException("events가 비어 있습니다.");
+        if (events.size() > maxEvents) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxEvents + "건까지 전송할 수 있습니다. size=" + events.size());
+        }
+
+        EventStatus[] results = new EventStatus[events.size()];
+        List<R> accepted = new ArrayList<>(events.size());
+        List<Integer> acceptedIdx = new ArrayList<>(events.size());
+
+        for (int i = 0; i < events.size(); i++) {
+            Parsed<T> p = events.get(i);
+            if (p.error() != null) {
+                results[i] = new EventStatus(i, Status.REJECTED, p.error());
+                continue;
+            }
+            try {
+                accepted.add(normalize.apply(p.value()));
+                acceptedIdx.add(i);
+                results[i] = new EventStatus(i, Status.ACCEPTED, null);
+            } catch (IllegalArgumentException e) {
+                results[i] = new EventStatus(i, Status.REJECTED, e.getMessage());
+            }
+        }
+
+        if (!accepted.isEmpty()) {
+            long start = System.currentTimeMillis();
+            try {
+                // 세션키별 1회만 ensure
+                accepted.stream().map(sessionKeyOf).distinct().forEach(sessionService::ensureSession);
+                copy.accept(accepted);
+                log.info("[LOG][BATCH] COPY {} rows={} elapsedMs={}", table, accepted.size(), System.currentTimeMillis() - start);
+            } catch (DataAccessException e) {
+                log.warn("[LOG][BATCH] COPY {} failed rows={} msg={}", table, accepted.size(), e.getMessage());
+                for (int idx : acceptedIdx) {
+                    results[idx] = new EventStatus(idx, Status.FAILED, "저장 실패");
+                }
+            }
+        }
+
+        return LogBatchIngestResponseDto.of(Arrays.asList(results));
+    }
+
+    private static <T> List<Parsed<T>> wrap(List<T> events) {
+        if (events == null) return List.of();
+        List<Parsed<T>> out = new ArrayList<>(events.size());
+        for (T e : events) {
+            out.add(e == null ? new Parsed<>(null, "event is null") : new Parsed<>(e, null));
+        }
+        return out;
+    }
+
+    private <T> List<Parsed<T>> parseNdjson(String body, Class<T> type) {
+        if (body == null || body.isBlank()) return List.of();
+
+        List<Parsed<T>> out = new ArrayList<>();
+        for (String line : body.split("\\r?\\n")) {
+            if (line.isBlank()) continue;
+            try {
+                out.add(new Parsed<>(objectMapper.readValue(line, type), null));
+            } catch (Exception e) {
+                out.add(new Parsed<>(null, "invalid json line"));
+            }
+        }
+        return out;
+    }
+}
@@ -0,0 +1,183 @@
+// src/main/java/com/team/backend/service/log/LogPartitionManager.java
+package com.team.backend.service.log;
+
+import com.team.backend.repository.log.LogPartitionJdbcRepository;
+import com.team.backend.repository.log.LogPartitionJdbcRepository.RangePartition;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 로그 테이블 월 파티션 lifecycle
+ * 1) default 파티션에 잘못 들어간 월 → 정식 파티션으로 분리
+ * 2) 이번 달 ~ monthsAhead 개월 뒤 파티션 미리 생성
+ * 3) retentionMonths(>0) 지난 파티션 → DETACH 후 archive 스키마로 이동 (drop 옵션)
+ * - 이미 있는지는 파티션 이름이 아니라 range 경계로 판단 → KST 월 중 안 덮인 구간(gap)만 생성
+ *   (migration이 만든 _YYYY_MM / UTC 경계 파티션과 겹쳐서 "would overlap" 나는 일 없음)
+ * - 테이블별로 advisory xact lock → 여러 인스턴스가 떠 있어도 한 곳만 실행
+ * - 구간 하나하나는 SQL savepoint 안에서 → 한 구간 실패가 같은 테이블의 나머지 작업을 롤백하지 않음
+ *   (JPA transaction manager는 NESTED savepoint를 지원하지 않아 JdbcTemplate으로 직접)
+ */
+@Slf4j
+@Component
+public class LogPartitionManager {
+
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+    private static final List<String> TABLES = List.of("session_log", "recommendation_event_log", "item_click_log");
+    private static final DateTimeFormatter GAP_SUFFIX = DateTimeFormatter.ofPattern("ddHHmm");
+
+    private final LogPartitionJdbcRepository partitionRepo;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final String archiveSchema;
+    private final boolean dropArchived;
+
+    public LogPartitionManager(
+            LogPartitionJdbcRepository partitionRepo,
+            TransactionTemplate transactionTemplate,
+            @Value("${log.partition.enabled:true}") boolean enabled,
+            @Value("${log.partition.months-ahead:3}") int monthsAhead,
+            @Value("${log.partition.retention-months:0}") int retentionMonths,
+            @Value("${log.partition.archive-schema:log_archive}") String archiveSchema,
+            @Value("${log.partition.drop-archived:false}") boolean dropArchived
+    ) {
+        this.partitionRepo = partitionRepo;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archiveSchema = archiveSchema;
+        this.dropArchived = dropArchived;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${log.partition.cron:0 10 3 * * *}", zone = "Asia/Seoul")
+    public void maintain() {
+        if (!enabled) return;
+
+        for (String table : TABLES) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> maintainTable(table));
+            } catch (Exception e) {
+                log.warn("[LOG][PARTITION] table={} 실패: {}", table, e.getMessage());
+            }
+        }
+    }
+
+    private void maintainTable(String table) {
+        String keyColumn = partitionRepo.partitionKeyColumn(table);
+        if (keyColumn == null) {
+            log.info("[LOG][PARTITION] table={} 파티션 테이블 아님 → skip", table);
+            return;
+        }
+        if (!partitionRepo.tryXactLock(table)) {
+            log.info("[LOG][PARTITION] table={} 다른 인스턴스에서 실행 중 → skip", table);
+            return;
+        }
+
+        YearMonth current = YearMonth.now(KST_ZONE);
+        Set<String> names = new HashSet<>(partitionRepo.listPartitions(table));
+
+        // 1) default에 쌓인 월 분리 (기존 파티션이 안 덮는 구간만)
+        for (YearMonth month : partitionRepo.monthsInDefault(table, keyColumn)) {
+            if (retentionMonths > 0 && month.isBefore(current.minusMonths(retentionMonths))) continue;
+
+            for (OffsetDateTime[] gap : uncovered(partitionRepo.listRangePartitions(table), month)) {
+                String name = gapName(table, month, gap, names);
+                inSavepoint(table, month, () -> {
+                    int moved = partitionRepo.moveFromDefaultAndAttach(table, keyColumn, name, gap[0], gap[1]);
+                    names.add(name);
+                    log.info("[LOG][PARTITION] table={} month={} default → partition={} moved={}", table, month, name, moved);
+                });
+            }
+        }
+
+        // 2) 이번 달 ~ 미래 파티션
+        for (int i = 0; i <= monthsAhead; i++) {
+            YearMonth month = current.plusMonths(i);
+            for (OffsetDateTime[] gap : uncovered(partitionRepo.listRangePartitions(table), month)) {
+                String name = gapName(table, month, gap, names);
+                inSavepoint(table, month, () -> {
+                    partitionRepo.createPartition(table, name, gap[0], gap[1]);
+                    names.add(name);
+                    log.info("[LOG][PARTITION] table={} created partition={} range=[{}, {})", table, name, gap[0], gap[1]);
+                });
+            }
+        }
+
+        // 3) retention: 상한이 cutoff 월 시작 이전인 파티션 (이름 형식 무관)
+        if (retentionMonths <= 0) return;
+        OffsetDateTime cutoff = LogPartitionJdbcRepository.kstStart(current.minusMonths(retentionMonths));
+
+        for (RangePartition p : partitionRepo.listRangePartitions(table)) {
+            if (p.to() == null || p.to().isAfter(cutoff)) continue;
+            inSavepoint(table, null, () -> {
+                partitionRepo.detachAndArchive(table, p.name(), archiveSchema, dropArchived);
+                log.info("[LOG][PARTITION] table={} partition={} detached ({})",
+                        table, p.name(), dropArchived ? "dropped" : "archived to " + archiveSchema);
+            });
+        }
+    }
+
+    private void inSavepoint(String table, YearMonth month, Runnable work) {
+        partitionRepo.savepoint();
+        try {
+            work.run();
+            partitionRepo.releaseSavepoint();
+        } catch (Exception e) {
+            partitionRepo.rollbackToSavepoint();
+            log.warn("[LOG][PARTITION] table={} month={} 실패 (다음 구간 계속): {}", table, month, e.getMessage());
+        }
+    }
+
+    /**
+     * KST 월 [start, end) 중 기존 range 파티션이 덮지 않는 구간들
+     * - parts는 from 오름차순 (null = MINVALUE 먼저)
+     */
+    static List<OffsetDateTime[]> uncovered(List<RangePartition> parts, YearMonth month) {
+        OffsetDateTime start = LogPartitionJdbcRepository.kstStart(month);
+        OffsetDateTime end = LogPartitionJdbcRepository.kstStart(month.plusMonths(1));
+
+        List<OffsetDateTime[]> gaps = new ArrayList<>();
+        OffsetDateTime cursor = start;
+        for (RangePartition p : parts) {
+            if (!cursor.isBefore(end)) break;
+            if (p.to() != null && !p.to().isAfter(cursor)) continue;   // cursor 이전에 끝남
+            if (p.from() != null && !p.from().isBefore(end)) break;    // 월 이후에 시작
+
+            if (p.from() != null && p.from().isAfter(cursor)) gaps.add(new OffsetDateTime[]{cursor, p.from()});
+            cursor = (p.to() == null) ? end : p.to();
+        }
+        if (cursor.isBefore(end)) gaps.add(new OffsetDateTime[]{cursor, end});
+        return gaps;
+    }
+
+    /** 월 전체면 <table>_YYYYMM, 일부 구간이면 시작 시각(KST)을 붙여 구분 */
+    private static String gapName(String table, YearMonth month, OffsetDateTime[] gap, Set<String> taken) {
+        String base = LogPartitionJdbcRepository.partitionName(table, month);
+        boolean wholeMonth = gap[0].isEqual(LogPartitionJdbcRepository.kstStart(month))
+                && gap[1].isEqual(LogPartitionJdbcRepository.kstStart(month.plusMonths(1)));
+        String name = wholeMonth ? base : base + "_" + gap[0].atZoneSameInstant(KST_ZONE).format(GAP_SUFFIX);
+        return taken.contains(name) ? name + "_" + (taken.size() + 1) : name;
+    }
+}
@@ -2,10 +2,10 @@
 package com.team.backend.service.log;
 
 import com.team.backend.api.dto.log.RecommendationEventLogRequestDto;
-import com.team.backend.repository.log.RecommendationEventLogJdbcRepository;
 import com.team.backend.service.session.SessionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 @Service
@@ -14,9 +14,23 @@ import org.springframework.transaction.annotation.Transactional;
 public class RecommendationEventLogService {
 
     private final SessionService sessionService;
-    private final RecommendationEventLogJdbcRepository repo;
+    private final AsyncLogWriter logWriter;
 
     public void write(RecommendationEventLogRequestDto dto) {
+        RecommendationEventLogRequestDto toSave = normalize(dto);
+
+        // 세션 ensure
+        sessionService.ensureSession(toSave.getSessionKey());
+
+        // 비동기 insert (커밋 후 enqueue)
+        logWriter.writeRecommendationEvent(toSave);
+    }
+
+    /**
+     * 검증 + 세션키 정규화만 (저장/세션 ensure 없음) - 단건 write / batch ingest 공용
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public RecommendationEventLogRequestDto normalize(RecommendationEventLogRequestDto dto) {
         if (dto == null) throw new IllegalArgumentException("dto is null");
         if (dto.getEventType() == null || dto.getEventType().isBlank()) {
             throw new IllegalArgumentException("eventType is required");
@@ -28,11 +42,8 @@ public class RecommendationEventLogService {
         // 1) 세션키 검증/정규화
         String normalizedKey = sessionService.validateOnly(dto.getSessionKey());
 
-        // 2) 세션 ensure
-        sessionService.ensureSession(normalizedKey);
-
-        // 3) 정규화된 세션키로 저장 DTO 구성 + insert
-        RecommendationEventLogRequestDto toSave = RecommendationEventLogRequestDto.builder()
+        // 2) 정규화된 세션키로 저장 DTO 구성
+        return RecommendationEventLogRequestDto.builder()
                 .createdAt(dto.getCreatedAt())
                 .userId(dto.getUserId())
                 .sessionKey(normalizedKey)
@@ -41,7 +52,5 @@ public class RecommendationEventLogService {
                 .eventType(dto.getEventType())
                 .payload(dto.getPayload())
                 .build();
-
-        repo.insert(toSave);
     }
 }
\ No newline at end of file
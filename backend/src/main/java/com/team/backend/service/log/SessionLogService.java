@@ -2,7 +2,6 @@ package com.team.backend.service.log;
 
 import com.team.backend.api.dto.log.SessionLogRequestDto;
 import com.team.backend.domain.enums.session.SessionEventType;
-import com.team.backend.repository.log.SessionLogJdbcRepository;
 import com.team.backend.service.session.SessionService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -16,9 +15,18 @@ import java.util.Objects;
 public class SessionLogService {
 
     private final SessionService sessionService;
-    private final SessionLogJdbcRepository repo;
+    private final AsyncLogWriter logWriter;
 
     public void write(SessionLogRequestDto dto) {
+        SessionLogRequestDto fixed = normalize(dto);
+        sessionService.ensureSession(fixed.getSessionKey());
+        logWriter.writeSessionLog(fixed);
+    }
+
+    /**
+     * 검증 + 정규화만 (저장/세션 ensure 없음) - 단건 write / batch ingest 공용
+     */
+    public SessionLogRequestDto normalize(SessionLogRequestDto dto) {
         if (dto == null) throw new IllegalArgumentException("dto is null");
         if (dto.getSessionKey() == null || dto.getSessionKey().isBlank())
             throw new IllegalArgumentException("sessionKey is required");
@@ -34,7 +42,6 @@ public class SessionLogService {
         }
 
         String key = sessionService.validateOnly(dto.getSessionKey());
-        sessionService.ensureSession(key);
 
         Map<String, Object> payload = dto.getPayload() == null ? new LinkedHashMap<>() : new LinkedHashMap<>(dto.getPayload());
 
@@ -50,14 +57,12 @@ public class SessionLogService {
             payload.putIfAbsent("action", "leave");
         }
 
-        SessionLogRequestDto fixed = SessionLogRequestDto.builder()
+        return SessionLogRequestDto.builder()
                 .createdAt(dto.getCreatedAt())
                 .userId(dto.getUserId())
                 .sessionKey(key)
                 .eventType(dto.getEventType())
                 .payload(payload)
                 .build();
-
-        repo.insert(fixed);
     }
 }
\ No newline at end of file
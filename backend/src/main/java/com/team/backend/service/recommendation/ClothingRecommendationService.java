@@ -14,18 +14,21 @@ import com.team.backend.domain.enums.UsageType;
 import com.team.backend.domain.enums.recommendation.RecommendationModelType;
 import com.team.backend.repository.closet.ClosetRepository;
 import com.team.backend.repository.clothing.ClothingItemRepository;
-import com.team.backend.repository.log.RecommendationEventLogJdbcRepository;
 import com.team.backend.service.ai.dto.RecommendationAiClient;
 import com.team.backend.service.ai.dto.RecommendationAiDto;
+import com.team.backend.service.clothing.ClothingCatalogIndex;
 import com.team.backend.service.favorite.FavoriteService;
+import com.team.backend.service.log.AsyncLogWriter;
 import com.team.backend.service.weather.WeatherService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDate;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -43,11 +46,20 @@ public class ClothingRecommendationService {
 
     private final ClothingItemRepository clothingItemRepository;
     private final ClosetRepository closetRepository;
+    private final ClothingCatalogIndex catalogIndex;
+    private final TodayRecommendationSnapshotStore todaySnapshots;
 
     private final WeatherService weatherService;
     private final RecommendationAiClient recommendationAiClient;
     private final FavoriteService favoriteService;
-    private  final RecommendationEventLogJdbcRepository recoLogRepo;
+    private final AsyncLogWriter logWriter;
+
+    @Qualifier("aiScoringExecutor")
+    private final Executor aiScoringExecutor;
+
+    // 요청 1건당 AI 스코어링 전체 대기 한도 (가장 느린 단일 호출 + 여유)
+    @Value("${ai.scoring.deadline-ms:8000}")
+    private long scoringDeadlineMs;
 
     // =========================
     // GET /api/recommend/today
@@ -67,24 +79,33 @@ public class ClothingRecommendationService {
             closetId = resolveClosetId(sessionKey);
         }
 
-        List<ClothingItem> out = new ArrayList<>();
+        Long scopedClosetId = closetId;
+        List<ClothingItemResponseDto> picked = todaySnapshots.getOrCompute(closetId, region, temp,
+                () -> pickToday(temp, scopedClosetId));
 
-        for (ClothingCategory category : List.of(ClothingCategory.TOP, ClothingCategory.BOTTOM, ClothingCategory.OUTER)) {
-            ClothingItemRequestDto.SearchCondition cond = ClothingItemRequestDto.SearchCondition.builder()
-                    .category(category)
-                    .temp(temp)
-                    .sort(SORT_DEFAULT)
-                    .limit(TODAY_PER_CATEGORY_POOL)
-                    .build();
+        return applyFavorites(picked, sessionKey);
+    }
+
+    private List<ClothingItemResponseDto> pickToday(Integer temp, Long closetId) {
+        ClothingItemRequestDto.SearchCondition cond = ClothingItemRequestDto.SearchCondition.builder()
+                .temp(temp)
+                .sort(SORT_DEFAULT)
+                .limit(TODAY_PER_CATEGORY_POOL)
+                .build();
 
-            List<ClothingItem> pool = loadCandidatesScoped(cond, TODAY_PER_CATEGORY_POOL, closetId);
+        Map<ClothingCategory, List<ClothingItem>> pools = loadCandidatesByCategory(
+                List.of(ClothingCategory.TOP, ClothingCategory.BOTTOM, ClothingCategory.OUTER),
+                cond, TODAY_PER_CATEGORY_POOL, closetId);
+
+        List<ClothingItem> out = new ArrayList<>();
+        pools.forEach((category, pool) -> {
             List<ClothingItem> picked = pool.stream().limit(TODAY_PER_CATEGORY_PICK).toList();
 
             log.info("[TODAY] category={} pool={} picked={}", category, pool.size(), picked.size());
             out.addAll(picked);
-        }
+        });
 
-        return toResponse(out, sessionKey);
+        return toResponse(out, null);
     }
 
     // =========================
@@ -144,100 +165,37 @@ public class ClothingRecommendationService {
 
     Set<UsageType> usageTypes = expandUsageTypes(checklist.getUsageType());
 
-    Map<ClothingCategory, List<ClothingItem>> candidatesByCategory = new LinkedHashMap<>();
-    for (ClothingCategory category : ClothingCategory.values()) {
-        ClothingItemRequestDto.SearchCondition cond = ClothingItemRequestDto.SearchCondition.builder()
-                .category(category)
-                .temp(temp)
-                .thicknessLevel(checklist.getThicknessLevel())
-                .usageTypes(usageTypes)
-                .sort(SORT_DEFAULT)
-                .limit(topN)
-                .build();
+    ClothingItemRequestDto.SearchCondition cond = ClothingItemRequestDto.SearchCondition.builder()
+            .temp(temp)
+            .thicknessLevel(checklist.getThicknessLevel())
+            .usageTypes(usageTypes)
+            .sort(SORT_DEFAULT)
+            .limit(topN)
+            .build();
 
-        List<ClothingItem> candidates = loadCandidatesScoped(cond, topN, closetId);
-        candidatesByCategory.put(category, candidates);
-
-        log.info("[CANDIDATES_POOL] recoId={} category={} size={}", recommendationId, category, candidates.size());
-    }
+    Map<ClothingCategory, List<ClothingItem>> candidatesByCategory =
+            loadCandidatesByCategory(List.of(ClothingCategory.values()), cond, topN, closetId);
+    candidatesByCategory.forEach((category, candidates) ->
+            log.info("[CANDIDATES_POOL] recoId={} category={} size={}", recommendationId, category, candidates.size()));
 
     Set<Long> favSet = (sessionKey == null || sessionKey.isBlank())
             ? Set.of()
             : new HashSet<>(favoriteService.listFavoriteClothingIds(sessionKey));
 
-    List<RecommendationCandidatesResponseDto.ModelCandidatesDto> models = new ArrayList<>();
-
-    for (RecommendationModelType modelType : List.of(
+    List<RecommendationModelType> modelTypes = List.of(
             RecommendationModelType.BLEND_RATIO,
             RecommendationModelType.MATERIAL_RATIO
-    )) {
-        List<RecommendationCandidatesResponseDto.CategoryCandidatesDto> categoryDtos = new ArrayList<>();
-
-        for (var entry : candidatesByCategory.entrySet()) {
-            ClothingCategory category = entry.getKey();
-            List<ClothingItem> candidates = entry.getValue();
-
-            if (candidates == null || candidates.isEmpty()) {
-                categoryDtos.add(RecommendationCandidatesResponseDto.CategoryCandidatesDto.builder()
-                        .category(category)
-                        .aiUsed(false)
-                        .candidates(List.of())
-                        .build());
-                continue;
-            }
-
-            try {
-                if (modelType == RecommendationModelType.BLEND_RATIO) {
-                    RecommendationAiDto.BlendRatioRequest aiReq = buildBlendRequest(weather, candidates);
-                    log.info("[AI_REQ][BLEND_RATIO] recoId={} category={} items={}", recommendationId, category, candidates.size());
+    );
 
-                    RecommendationAiDto.BlendRatioResponse aiRes = recommendationAiClient.recommendBlendRatio(aiReq);
-                    CandidateMapping mapped = mapBlendToCandidateDtosSorted(aiRes, candidates, favSet, topN);
-
-                    log.info("[AI_MAP][BLEND_RATIO] recoId={} category={} results={} matched={} aiUsed={} top3={}",
-                            recommendationId, category,
-                            (aiRes == null || aiRes.results == null) ? 0 : aiRes.results.size(),
-                            mapped.matchedCount, mapped.aiUsed, mappedTop3(mapped.candidates));
-
-                    categoryDtos.add(RecommendationCandidatesResponseDto.CategoryCandidatesDto.builder()
-                            .category(category)
-                            .aiUsed(mapped.aiUsed)
-                            .candidates(mapped.candidates)
-                            .build());
-
-                } else {
-                    RecommendationAiDto.MaterialRatioRequest aiReq = buildMaterialRequest(weather, candidates);
-                    log.info("[AI_REQ][MATERIAL_RATIO] recoId={} category={} items={}", recommendationId, category, candidates.size());
-
-                    RecommendationAiDto.MaterialRatioResponse aiRes = recommendationAiClient.recommendMaterialRatio(aiReq);
-                    CandidateMapping mapped = mapMaterialToCandidateDtosSorted(aiRes, candidates, favSet, topN);
-
-                    log.info("[AI_MAP][MATERIAL_RATIO] recoId={} category={} results={} matched={} aiUsed={} top3={}",
-                            recommendationId, category,
-                            (aiRes == null || aiRes.results == null) ? 0 : aiRes.results.size(),
-                            mapped.matchedCount, mapped.aiUsed, mappedTop3(mapped.candidates));
-
-                    categoryDtos.add(RecommendationCandidatesResponseDto.CategoryCandidatesDto.builder()
-                            .category(category)
-                            .aiUsed(mapped.aiUsed)
-                            .candidates(mapped.candidates)
-                            .build());
-                }
-
-            } catch (Exception e) {
-                log.warn("[AI_FAIL] fallback. recoId={} modelType={} category={}", recommendationId, modelType, category, e);
-
-                categoryDtos.add(RecommendationCandidatesResponseDto.CategoryCandidatesDto.builder()
-                        .category(category)
-                        .aiUsed(false)
-                        .candidates(fallbackCandidates(candidates, favSet, topN))
-                        .build());
-            }
-        }
+    // ✅ modelType별 배치 AI 호출을 동시에 fan-out → 전체 deadline 안에서 수집
+    Map<RecommendationModelType, List<RecommendationCandidatesResponseDto.CategoryCandidatesDto>> scored =
+            scoreConcurrently(recommendationId, modelTypes, candidatesByCategory, weather, favSet, topN);
 
+    List<RecommendationCandidatesResponseDto.ModelCandidatesDto> models = new ArrayList<>();
+    for (RecommendationModelType modelType : modelTypes) {
         models.add(RecommendationCandidatesResponseDto.ModelCandidatesDto.builder()
                 .modelType(modelType)
-                .categories(categoryDtos)
+                .categories(scored.get(modelType))
                 .build());
     }
 
@@ -255,21 +213,20 @@ public class ClothingRecommendationService {
         }
 
         // 모델 타입 목록
-        List<String> modelTypes = List.of(
-                RecommendationModelType.BLEND_RATIO.name(),
-                RecommendationModelType.MATERIAL_RATIO.name()
-        );
+        List<String> modelTypeNames = modelTypes.stream()
+                .map(Enum::name)
+                .toList();
 
         // payload
         Map<String, Object> payload = new LinkedHashMap<>();
         payload.put("source", "RECOMMEND_CANDIDATES");
         payload.put("latencyMs", latencyMs);
         payload.put("topNPerCategory", topN);
-        payload.put("modelTypes", modelTypes);
+        payload.put("modelTypes", modelTypeNames);
         payload.put("candidateCounts", candidateCounts);
 
-        recoLogRepo.insert(RecommendationEventLogRequestDto.builder()
-                .createdAt(null) // DB now()
+        logWriter.writeRecommendationEvent(RecommendationEventLogRequestDto.builder()
+                .createdAt(null) // enqueue 시각
                 .userId(null)
                 .sessionKey(sessionKey)
                 .recommendationId(UUID.fromString(recommendationId))
@@ -288,6 +245,177 @@ public class ClothingRecommendationService {
             .build();
 }
 
+    // =========================
+    // AI scoring stage (concurrent)
+    // - modelType별로 모든 category items를 한 payload로 묶은 배치 호출을 aiScoringExecutor에 동시에 제출
+    // - 요청 단위 deadline(ai.scoring.deadline-ms) 초과/거절/실패 시 해당 category만 fallback
+    // =========================
+    private Map<RecommendationModelType, List<RecommendationCandidatesResponseDto.CategoryCandidatesDto>> scoreConcurrently(
+            String recommendationId,
+            List<RecommendationModelType> modelTypes,
+            Map<ClothingCategory, List<ClothingItem>> candidatesByCategory,
+            DailyWeatherResponseDto weather,
+            Set<Long> favSet,
+            int topN
+    ) {
+        Map<RecommendationModelType, CompletableFuture<List<RecommendationCandidatesResponseDto.CategoryCandidatesDto>>> futures =
+                new LinkedHashMap<>();
+
+        for (RecommendationModelType modelType : modelTypes) {
+            try {
+                futures.put(modelType, CompletableFuture.supplyAsync(
+                        () -> scoreModel(recommendationId, modelType, candidatesByCategory, weather, favSet, topN),
+                        aiScoringExecutor
+                ));
+            } catch (RejectedExecutionException e) {
+                log.warn("[AI_REJECTED] fallback. recoId={} modelType={}", recommendationId, modelType);
+                futures.put(modelType, CompletableFuture.completedFuture(fallbackAll(candidatesByCategory, favSet, topN)));
+            }
+        }
+
+        long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(scoringDeadlineMs);
+
+        Map<RecommendationModelType, List<RecommendationCandidatesResponseDto.CategoryCandidatesDto>> out = new LinkedHashMap<>();
+        for (var entry : futures.entrySet()) {
+            RecommendationModelType modelType = entry.getKey();
+            CompletableFuture<List<RecommendationCandidatesResponseDto.CategoryCandidatesDto>> f = entry.getValue();
+
+            long remaining = Math.max(0L, deadlineNanos - System.nanoTime());
+            try {
+                out.put(modelType, f.get(remaining, TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                f.cancel(true);
+                log.warn("[AI_DEADLINE] fallback. recoId={} modelType={} deadlineMs={}",
+                        recommendationId, modelType, scoringDeadlineMs);
+                out.put(modelType, fallbackAll(candidatesByCategory, favSet, topN));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                f.cancel(true);
+                out.put(modelType, fallbackAll(candidatesByCategory, favSet, topN));
+            } catch (ExecutionException e) {
+                log.warn("[AI_FAIL] fallback. recoId={} modelType={}", recommendationId, modelType, e.getCause());
+                out.put(modelType, fallbackAll(candidatesByCategory, favSet, topN));
+            }
+        }
+        return out;
+    }
+
+    /**
+     * modelType 1개에 대해 전체 category를 배치 호출 1번으로 스코어링
+     * - 배치 응답에서 빠진 category(그룹 호출 실패)는 해당 category만 fallback
+     */
+    private List<RecommendationCandidatesResponseDto.CategoryCandidatesDto> scoreModel(
+            String recommendationId,
+            RecommendationModelType modelType,
+            Map<ClothingCategory, List<ClothingItem>> candidatesByCategory,
+            DailyWeatherResponseDto weather,
+            Set<Long> favSet,
+            int topN
+    ) {
+        Map<ClothingCategory, List<ClothingItem>> scorable = new LinkedHashMap<>();
+        candidatesByCategory.forEach((category, candidates) -> {
+            if (candidates != null && !candidates.isEmpty()) scorable.put(category, candidates);
+        });
+
+        Map<ClothingCategory, CandidateMapping> mappedByCategory = new EnumMap<>(ClothingCategory.class);
+        try {
+            if (!scorable.isEmpty()) {
+                int items = scorable.values().stream().mapToInt(List::size).sum();
+                log.info("[AI_REQ][{}] recoId={} categories={} items={}", modelType, recommendationId, scorable.keySet(), items);
+            }
+
+            if (scorable.isEmpty()) {
+                log.info("[AI_SKIP][{}] recoId={} no candidates", modelType, recommendationId);
+            } else if (modelType == RecommendationModelType.BLEND_RATIO) {
+                Map<ClothingCategory, List<RecommendationAiDto.BlendItemReq>> itemsByCategory = new LinkedHashMap<>();
+                scorable.forEach((category, candidates) -> itemsByCategory.put(category, toBlendItems(candidates)));
+
+                Map<ClothingCategory, RecommendationAiDto.BlendRatioResponse> resByCategory =
+                        recommendationAiClient.recommendBlendRatioBatch(buildBlendContext(weather), itemsByCategory);
+
+                resByCategory.forEach((category, aiRes) -> {
+                    CandidateMapping mapped = mapBlendToCandidateDtosSorted(aiRes, scorable.get(category), favSet, topN);
+                    log.info("[AI_MAP][BLEND_RATIO] recoId={} category={} results={} matched={} aiUsed={} top3={}",
+                            recommendationId, category,
+                            (aiRes == null || aiRes.results == null) ? 0 : aiRes.results.size(),
+                            mapped.matchedCount, mapped.aiUsed, mappedTop3(mapped.candidates));
+                    mappedByCategory.put(category, mapped);
+                });
+
+            } else {
+                Map<ClothingCategory, List<RecommendationAiDto.MaterialItemReq>> itemsByCategory = new LinkedHashMap<>();
+                scorable.forEach((category, candidates) -> itemsByCategory.put(category, toMaterialItems(candidates)));
+
+                Map<ClothingCategory, RecommendationAiDto.MaterialRatioResponse> resByCategory =
+                        recommendationAiClient.recommendMaterialRatioBatch(buildMaterialWeather(weather), itemsByCategory);
+
+                resByCategory.forEach((category, aiRes) -> {
+                    CandidateMapping mapped = mapMaterialToCandidateDtosSorted(aiRes, scorable.get(category), favSet, topN);
+                    log.info("[AI_MAP][MATERIAL_RATIO] recoId={} category={} results={} matched={} aiUsed={} top3={}",
+                            recommendationId, category,
+                            (aiRes == null || aiRes.results == null) ? 0 : aiRes.results.size(),
+                            mapped.matchedCount, mapped.aiUsed, mappedTop3(mapped.candidates));
+                    mappedByCategory.put(category, mapped);
+                });
+            }
+        } catch (Exception e) {
+            log.warn("[AI_FAIL] fallback. recoId={} modelType={}", recommendationId, modelType, e);
+            return fallbackAll(candidatesByCategory, favSet, topN);
+        }
+
+        List<RecommendationCandidatesResponseDto.CategoryCandidatesDto> categoryDtos = new ArrayList<>();
+        for (var entry : candidatesByCategory.entrySet()) {
+            ClothingCategory category = entry.getKey();
+            List<ClothingItem> candidates = entry.getValue();
+
+            if (candidates == null || candidates.isEmpty()) {
+                categoryDtos.add(RecommendationCandidatesResponseDto.CategoryCandidatesDto.builder()
+                        .category(category)
+                        .aiUsed(false)
+                        .candidates(List.of())
+                        .build());
+                continue;
+            }
+
+            CandidateMapping mapped = mappedByCategory.get(category);
+            if (mapped == null) {
+                log.warn("[AI_FAIL] fallback. recoId={} modelType={} category={}", recommendationId, modelType, category);
+                categoryDtos.add(fallbackCategory(category, candidates, favSet, topN));
+                continue;
+            }
+
+            categoryDtos.add(RecommendationCandidatesResponseDto.CategoryCandidatesDto.builder()
+                    .category(category)
+                    .aiUsed(mapped.aiUsed)
+                    .candidates(mapped.candidates)
+                    .build());
+        }
+        return categoryDtos;
+    }
+
+    private List<RecommendationCandidatesResponseDto.CategoryCandidatesDto> fallbackAll(
+            Map<ClothingCategory, List<ClothingItem>> candidatesByCategory,
+            Set<Long> favSet,
+            int topN
+    ) {
+        List<RecommendationCandidatesResponseDto.CategoryCandidatesDto> out = new ArrayList<>();
+        candidatesByCategory.forEach((category, candidates) -> out.add(fallbackCategory(category, candidates, favSet, topN)));
+        return out;
+    }
+
+    private RecommendationCandidatesResponseDto.CategoryCandidatesDto fallbackCategory(
+            ClothingCategory category,
+            List<ClothingItem> candidates,
+            Set<Long> favSet,
+            int topN
+    ) {
+        return RecommendationCandidatesResponseDto.CategoryCandidatesDto.builder()
+                .category(category)
+                .aiUsed(false)
+                .candidates(candidates == null ? List.of() : fallbackCandidates(candidates, favSet, topN))
+                .build();
+    }
+
     private String mappedTop3(List<RecommendationCandidatesResponseDto.CandidateDto> list) {
         if (list == null || list.isEmpty()) return "[]";
         return list.stream()
@@ -406,10 +534,10 @@ public class ClothingRecommendationService {
     // =========================
     // AI Request builders
     // =========================
-    private RecommendationAiDto.BlendRatioRequest buildBlendRequest(DailyWeatherResponseDto w, List<ClothingItem> items) {
+    private RecommendationAiDto.BlendContext buildBlendContext(DailyWeatherResponseDto w) {
         Number cloud = w.getCloudAmount();
 
-        RecommendationAiDto.BlendContext ctx = new RecommendationAiDto.BlendContext(
+        return new RecommendationAiDto.BlendContext(
                 w.getTemperature(),
                 (w.getHumidity() == null ? null : w.getHumidity().doubleValue()),
                 w.getWindSpeed(),
@@ -418,20 +546,20 @@ public class ClothingRecommendationService {
                 w.getMinTemperature(),
                 (w.getSky() == null ? null : w.getSky().toString())
         );
+    }
 
-        List<RecommendationAiDto.BlendItemReq> aiItems = items.stream()
+    private List<RecommendationAiDto.BlendItemReq> toBlendItems(List<ClothingItem> items) {
+        return items.stream()
                 .map(i -> new RecommendationAiDto.BlendItemReq(
                         i.getClothingId(),
                         clampRatio(i.getCottonPercentage()),
                         (i.getThicknessLevel() == null ? DEFAULT_THICKNESS : i.getThicknessLevel().name())
                 ))
                 .toList();
-
-        return new RecommendationAiDto.BlendRatioRequest(ctx, aiItems);
     }
 
-    private RecommendationAiDto.MaterialRatioRequest buildMaterialRequest(DailyWeatherResponseDto w, List<ClothingItem> items) {
-        RecommendationAiDto.MaterialWeather weather = new RecommendationAiDto.MaterialWeather(
+    private RecommendationAiDto.MaterialWeather buildMaterialWeather(DailyWeatherResponseDto w) {
+        return new RecommendationAiDto.MaterialWeather(
                 w.getTemperature(),
                 w.getFeelsLikeTemperature(),
                 w.getMaxTemperature(),
@@ -440,8 +568,10 @@ public class ClothingRecommendationService {
                 w.getPrecipitationProbability(),
                 w.getWindSpeed()
         );
+    }
 
-        List<RecommendationAiDto.MaterialItemReq> aiItems = items.stream()
+    private List<RecommendationAiDto.MaterialItemReq> toMaterialItems(List<ClothingItem> items) {
+        return items.stream()
                 .map(i -> new RecommendationAiDto.MaterialItemReq(
                         i.getClothingId(),
                         pickMaterialName(i),
@@ -449,8 +579,6 @@ public class ClothingRecommendationService {
                         i.getColor()
                 ))
                 .toList();
-
-        return new RecommendationAiDto.MaterialRatioRequest(aiItems, weather);
     }
 
     private String pickMaterialName(ClothingItem i) {
@@ -512,20 +640,44 @@ public class ClothingRecommendationService {
     }
 
     private List<ClothingItem> loadCandidatesScoped(ClothingItemRequestDto.SearchCondition cond, int limit, Long closetId) {
-        List<Long> ids;
-
-        if (closetId != null) {
-            ids = clothingItemRepository.searchCandidateIdsInCloset(closetId, cond, PageRequest.of(0, limit));
-        } else {
-            ids = clothingItemRepository.searchCandidateIds(cond, PageRequest.of(0, limit));
-        }
-
+        List<Long> ids = catalogIndex.findCandidateIds(closetId, cond, limit);
         if (ids == null || ids.isEmpty()) return List.of();
 
         List<ClothingItem> loaded = clothingItemRepository.findAllByIdIn(ids);
         return orderByIds(ids, loaded);
     }
 
+    /**
+     * 여러 category 후보를 한 번에: id 검색 1회(인덱스 또는 ROW_NUMBER 쿼리) + findAllByIdIn 1회
+     * - 반환 순서는 categories 순서, category 안은 검색 정렬 순서
+     */
+    private Map<ClothingCategory, List<ClothingItem>> loadCandidatesByCategory(
+            List<ClothingCategory> categories,
+            ClothingItemRequestDto.SearchCondition cond,
+            int perCategory,
+            Long closetId
+    ) {
+        Map<ClothingCategory, List<Long>> idsByCategory =
+                catalogIndex.findCandidateIdsByCategory(closetId, categories, cond, perCategory);
+
+        List<Long> allIds = idsByCategory.values().stream().flatMap(List::stream).toList();
+        Map<Long, ClothingItem> loaded = allIds.isEmpty()
+                ? Map.of()
+                : clothingItemRepository.findAllByIdIn(allIds).stream()
+                .collect(Collectors.toMap(ClothingItem::getId, Function.identity(), (a, b) -> a));
+
+        Map<ClothingCategory, List<ClothingItem>> out = new LinkedHashMap<>();
+        for (ClothingCategory category : categories) {
+            List<ClothingItem> ordered = new ArrayList<>();
+            for (Long id : idsByCategory.getOrDefault(category, List.of())) {
+                ClothingItem it = loaded.get(id);
+                if (it != null) ordered.add(it);
+            }
+            out.put(category, ordered);
+        }
+        return out;
+    }
+
     private List<ClothingItem> orderByIds(List<Long> ids, List<ClothingItem> loaded) {
         Map<Long, ClothingItem> map = loaded.stream()
                 .collect(Collectors.toMap(ClothingItem::getId, Function.identity(), (a, b) -> a));
@@ -567,6 +719,15 @@ public class ClothingRecommendationService {
                 .toList();
     }
 
+    private List<ClothingItemResponseDto> applyFavorites(List<ClothingItemResponseDto> items, String sessionKey) {
+        if (sessionKey == null || sessionKey.isBlank() || items.isEmpty()) return items;
+
+        Set<Long> favSet = new HashSet<>(favoriteService.listFavoriteClothingIds(sessionKey));
+        return items.stream()
+                .map(it -> it.withFavorited(favSet.contains(it.getClothingId())))
+                .toList();
+    }
+
     // =========================
     // Mapping wrapper
     // =========================
@@ -0,0 +1,94 @@
+// src/main/java/com/team/backend/service/recommendation/TodayRecommendationSnapshotStore.java
+package com.team.backend.service.recommendation;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team.backend.api.dto.clothingItem.ClothingItemResponseDto;
+import com.team.backend.common.bitmap.IdBitmap;
+import com.team.backend.common.time.TimeRanges;
+import com.team.backend.service.closet.ClosetMembershipIndex;
+import com.team.backend.service.clothing.ClothingCatalogIndex;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * /api/recommend/today 결과 스냅샷 (favorited=false 상태로 보관, favorites는 호출부에서 덧씌움)
+ * - key: (closetId | 전역, KST 날짜, 날씨 버전 = region + 픽에 쓰인 체감온도)
+ * - 검증: catalog rankingVersion / closet membership bitmap이 저장 시점과 같을 때만 hit
+ *   → 순위 변경, 옷 추가/수정/삭제, closet 구성 변경 시 다음 호출에서 재계산
+ *   → 클릭으로 selected_count만 바뀐 경우는 hit 유지, 값은 hit 때 인덱스 기준으로 덧씌움
+ * - catalog index 미적재 / membership 비활성이면 스냅샷 없이 매번 계산
+ */
+@Slf4j
+@Component
+public class TodayRecommendationSnapshotStore {
+
+    private record Key(Long closetId, LocalDate kstDate, String weatherVersion) {}
+
+    private record Entry(long rankingVersion, IdBitmap members, List<ClothingItemResponseDto> items) {}
+
+    private final ClothingCatalogIndex catalogIndex;
+    private final ClosetMembershipIndex closetMembershipIndex;
+    private final boolean enabled;
+    private final Cache<Key, Entry> snapshots;
+
+    public TodayRecommendationSnapshotStore(
+            ClothingCatalogIndex catalogIndex,
+            ClosetMembershipIndex closetMembershipIndex,
+            @Value("${recommendation.today-snapshot.enabled:true}") boolean enabled,
+            @Value("${recommendation.today-snapshot.max-size:50000}") long maxSize
+    ) {
+        this.catalogIndex = catalogIndex;
+        this.closetMembershipIndex = closetMembershipIndex;
+        this.enabled = enabled;
+        // KST 날짜가 key에 들어가므로 하루 지나면 더 이상 hit 안 됨 → 1일 후 정리
+        this.snapshots = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofDays(1))
+                .build();
+    }
+
+    public List<ClothingItemResponseDto> getOrCompute(
+            Long closetId,
+            String region,
+            Integer temp,
+            Supplier<List<ClothingItemResponseDto>> compute
+    ) {
+        if (!enabled) return compute.get();
+
+        // 계산 전에 버전을 읽음 → 계산 도중 바뀌었으면 다음 호출에서 불일치로 재계산
+        long rankingVersion = catalogIndex.rankingVersion();
+        IdBitmap members = (closetId == null) ? null : closetMembershipIndex.membersOf(closetId);
+        if (rankingVersion < 0 || (closetId != null && members == null)) return compute.get();
+
+        Key key = new Key(closetId, TimeRanges.todayKst(), region + ":" + temp);
+        Entry cached = snapshots.getIfPresent(key);
+        if (cached != null && cached.rankingVersion() == rankingVersion && Objects.equals(cached.members(), members)) {
+            return withCurrentSelectedCounts(cached.items());
+        }
+
+        List<ClothingItemResponseDto> items = List.copyOf(compute.get());
+        snapshots.put(key, new Entry(rankingVersion, members, items));
+        log.debug("[TODAY][SNAPSHOT] stored closetId={} weather={} rankingVersion={} items={}",
+                closetId, key.weatherVersion(), rankingVersion, items.size());
+        return items;
+    }
+
+    /** 스냅샷 이후 flush된 클릭 반영 (item 수만큼 map lookup) */
+    private List<ClothingItemResponseDto> withCurrentSelectedCounts(List<ClothingItemResponseDto> items) {
+        List<ClothingItemResponseDto> out = new ArrayList<>(items.size());
+        for (ClothingItemResponseDto it : items) {
+            Integer current = (it.getId() == null) ? null : catalogIndex.selectedCountOf(it.getId());
+            out.add(current == null ? it : it.withSelectedCount(current));
+        }
+        return out;
+    }
+}
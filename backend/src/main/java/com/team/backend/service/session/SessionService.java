@@ -5,8 +5,11 @@ import com.team.backend.common.time.TimeRanges;
 import com.team.backend.repository.session.SessionRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.OffsetDateTime;
 import java.util.UUID;
 
 @Service
@@ -15,6 +18,8 @@ import java.util.UUID;
 public class SessionService {
 
     private final SessionRepository sessionRepository;
+    private final SessionTouchBuffer touchBuffer;
+    private final TransactionTemplate transactionTemplate;
 
     public String issueAnonymousSessionKey() {
         String sessionKey = UUID.randomUUID().toString();
@@ -22,16 +27,27 @@ public class SessionService {
             sessionKey = UUID.randomUUID().toString();
         }
         sessionRepository.upsertTouch(sessionKey, TimeRanges.nowKst());
+        touchBuffer.markKnown(sessionKey);
         return sessionKey;
     }
 
-    /** WRITE 전용 */
+    /**
+     * WRITE 전용
+     * - 이미 확인된 세션키: last_seen_at만 write-behind 버퍼에 반영 (DB 접근/트랜잭션 없음)
+     * - 처음 보는 세션키: 동기 upsert (호출부 트랜잭션이 있으면 참여)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public void ensureSession(String sessionKey) {
         String key = requireUuidV4(sessionKey);
-        sessionRepository.upsertTouch(key, TimeRanges.nowKst());
+        OffsetDateTime now = TimeRanges.nowKst();
+        if (touchBuffer.tryBuffer(key, now)) return;
+
+        transactionTemplate.executeWithoutResult(status -> sessionRepository.upsertTouch(key, now));
+        touchBuffer.markKnown(key);
     }
 
-    /** READ 전용(검증만) */
+    /** READ 전용(검증만) - DB 접근 없음 → 트랜잭션 새로 열지 않음 */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public String validateOnly(String sessionKey) {
         return requireUuidV4(sessionKey);
     }
@@ -0,0 +1,124 @@
+// src/main/java/com/team/backend/service/session/SessionTouchBuffer.java
+package com.team.backend.service.session;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.team.backend.repository.session.SessionTouchJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * session last_seen_at write-behind
+ * - 이미 DB에 있는 것으로 확인된 세션키(known)는 touch 시각만 메모리에 모아 두고 주기적으로 1 statement로 flush
+ * - known이 아닌 키만 호출부에서 동기 upsert (FK/존재 보장)
+ * - known 표시는 커밋 후 (롤백된 insert를 known으로 착각하지 않도록)
+ */
+@Slf4j
+@Component
+public class SessionTouchBuffer {
+
+    private static final int FLUSH_CHUNK = 1000;
+
+    private final SessionTouchJdbcRepository touchRepo;
+    private final boolean enabled;
+
+    private final Cache<String, Boolean> knownKeys;
+    private final ConcurrentHashMap<String, OffsetDateTime> pending = new ConcurrentHashMap<>();
+
+    private final Counter coalescedCounter;
+    private final Counter syncCounter;
+
+    public SessionTouchBuffer(
+            SessionTouchJdbcRepository touchRepo,
+            MeterRegistry meterRegistry,
+            @Value("${session.touch.coalesce.enabled:true}") boolean enabled,
+            @Value("${session.touch.known-max-size:100000}") long knownMaxSize,
+            @Value("${session.touch.known-ttl-seconds:3600}") long knownTtlSeconds
+    ) {
+        this.touchRepo = touchRepo;
+        this.enabled = enabled;
+        this.knownKeys = Caffeine.newBuilder()
+                .maximumSize(knownMaxSize)
+                .expireAfterWrite(Duration.ofSeconds(knownTtlSeconds))
+                .build();
+
+        Gauge.builder("session.touch.pending", pending, Map::size).register(meterRegistry);
+        this.coalescedCounter = Counter.builder("session.touch.coalesced").register(meterRegistry);
+        this.syncCounter = Counter.builder("session.touch.sync").register(meterRegistry);
+    }
+
+    /**
+     * @return true면 버퍼에 흡수됨(호출부 DB 작업 불필요), false면 호출부에서 동기 upsert 필요
+     */
+    public boolean tryBuffer(String sessionKey, OffsetDateTime now) {
+        if (!enabled || knownKeys.getIfPresent(sessionKey) == null) {
+            syncCounter.increment();
+            return false;
+        }
+        pending.merge(sessionKey, now, (a, b) -> a.isAfter(b) ? a : b);
+        coalescedCounter.increment();
+        return true;
+    }
+
+    /** 동기 upsert 직후 호출 → 커밋되면 known 처리 */
+    public void markKnown(String sessionKey) {
+        if (!enabled) return;
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    knownKeys.put(sessionKey, Boolean.TRUE);
+                }
+            });
+            return;
+        }
+        knownKeys.put(sessionKey, Boolean.TRUE);
+    }
+
+    @Scheduled(fixedDelayString = "${session.touch.flush-interval-ms:5000}")
+    public void flush() {
+        if (pending.isEmpty()) return;
+
+        // key별로 remove하면서 꺼냄 → 꺼낸 뒤 들어온 touch는 다음 flush로
+        List<Map.Entry<String, OffsetDateTime>> batch = new ArrayList<>(pending.size());
+        for (String key : pending.keySet()) {
+            OffsetDateTime seenAt = pending.remove(key);
+            if (seenAt != null) batch.add(Map.entry(key, seenAt));
+        }
+        if (batch.isEmpty()) return;
+        batch.sort(Map.Entry.comparingByKey());
+
+        long start = System.currentTimeMillis();
+        for (int from = 0; from < batch.size(); from += FLUSH_CHUNK) {
+            List<Map.Entry<String, OffsetDateTime>> chunk = batch.subList(from, Math.min(from + FLUSH_CHUNK, batch.size()));
+            try {
+                touchRepo.batchTouch(chunk);
+            } catch (Exception e) {
+                // 실패분은 다음 flush에 다시 시도 (더 최신 touch가 들어왔으면 그걸 유지)
+                log.warn("[SESSION][TOUCH] flush failed size={} msg={}", chunk.size(), e.getMessage());
+                for (Map.Entry<String, OffsetDateTime> t : chunk) {
+                    pending.merge(t.getKey(), t.getValue(), (a, b) -> a.isAfter(b) ? a : b);
+                }
+            }
+        }
+        log.debug("[SESSION][TOUCH] flushed size={} elapsedMs={}", batch.size(), System.currentTimeMillis() - start);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,61 @@
+// src/main/java/com/team/backend/service/weather/WeatherFetchCoalescer.java
+package com.team.backend.service.weather;
+
+import com.team.backend.api.dto.weather.WeeklyWeatherResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * region 단위 single-flight
+ * - 같은 region의 OpenWeather fetch+upsert는 동시에 1건만 실행
+ * - 나머지 호출은 진행 중인 결과를 timeout까지 기다렸다가 그대로 공유
+ */
+@Slf4j
+@Component
+public class WeatherFetchCoalescer {
+
+    private final ConcurrentMap<String, CompletableFuture<WeeklyWeatherResponseDto>> inFlight =
+            new ConcurrentHashMap<>();
+
+    @Value("${weather.fetch.coalesce-timeout-ms:10000}")
+    private long waitTimeoutMs;
+
+    public WeeklyWeatherResponseDto fetch(String region, Supplier<WeeklyWeatherResponseDto> loader) {
+        CompletableFuture<WeeklyWeatherResponseDto> mine = new CompletableFuture<>();
+        CompletableFuture<WeeklyWeatherResponseDto> running = inFlight.putIfAbsent(region, mine);
+
+        if (running != null) {
+            log.info("⏳ OpenWeather fetch 진행 중 → 결과 대기. region={}", region);
+            return await(region, running);
+        }
+
+        try {
+            WeeklyWeatherResponseDto result = loader.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(region, mine);
+        }
+    }
+
+    private WeeklyWeatherResponseDto await(String region, CompletableFuture<WeeklyWeatherResponseDto> running) {
+        try {
+            return running.get(waitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("OpenWeather fetch 대기 시간 초과 (region=" + region + ")");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("OpenWeather fetch 대기 중 인터럽트 (region=" + region + ")");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("OpenWeather fetch 실패 (region=" + region + ")", e.getCause());
+        }
+    }
+}
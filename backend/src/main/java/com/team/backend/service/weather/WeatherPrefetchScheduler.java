@@ -0,0 +1,160 @@
+// src/main/java/com/team/backend/service/weather/WeatherPrefetchScheduler.java
+package com.team.backend.service.weather;
+
+import com.team.backend.config.DefaultLocationConfig;
+import com.team.backend.config.WeatherPrefetchProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.*;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 설정된 region들의 주간 예보를 백그라운드에서 미리 갱신
+ * - 주기 실행: intervalMs ± jitterMs
+ * - KST 자정 preMidnightMinutes분 전 1회 추가 실행
+ * - region fetch는 weatherPrefetchExecutor로 병렬(bounded), 실패 시 지수 backoff 재시도
+ */
+@Slf4j
+@Component
+public class WeatherPrefetchScheduler {
+
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+
+    private final WeatherService weatherService;
+    private final WeatherPrefetchProperties props;
+    private final DefaultLocationConfig defaultLocation;
+    private final TaskScheduler taskScheduler;
+    private final Executor prefetchExecutor;
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+
+    public WeatherPrefetchScheduler(
+            WeatherService weatherService,
+            WeatherPrefetchProperties props,
+            DefaultLocationConfig defaultLocation,
+            TaskScheduler taskScheduler,
+            @Qualifier("weatherPrefetchExecutor") Executor prefetchExecutor
+    ) {
+        this.weatherService = weatherService;
+        this.props = props;
+        this.defaultLocation = defaultLocation;
+        this.taskScheduler = taskScheduler;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!props.isEnabled()) {
+            log.info("[WEATHER][PREFETCH] disabled");
+            return;
+        }
+        log.info("[WEATHER][PREFETCH] start regions={}, intervalMs={}, jitterMs={}, preMidnightMinutes={}",
+                targets().stream().map(WeatherPrefetchProperties.Region::getName).toList(),
+                props.getIntervalMs(), props.getJitterMs(), props.getPreMidnightMinutes());
+
+        schedulePeriodic(props.getInitialDelayMs());
+        schedulePreMidnight();
+    }
+
+    // ==============================
+    // scheduling
+    // ==============================
+
+    private void schedulePeriodic(long baseDelayMs) {
+        long delay = Math.max(0, baseDelayMs + jitter());
+        taskScheduler.schedule(() -> {
+            try {
+                runAll("periodic");
+            } finally {
+                schedulePeriodic(props.getIntervalMs());
+            }
+        }, Instant.now().plusMillis(delay));
+    }
+
+    private void schedulePreMidnight() {
+        ZonedDateTime now = ZonedDateTime.now(KST_ZONE);
+        ZonedDateTime next = now.toLocalDate().plusDays(1).atStartOfDay(KST_ZONE)
+                .minusMinutes(props.getPreMidnightMinutes());
+        if (!next.isAfter(now)) next = next.plusDays(1);
+
+        taskScheduler.schedule(() -> {
+            try {
+                runAll("pre-midnight");
+            } finally {
+                schedulePreMidnight();
+            }
+        }, next.toInstant());
+    }
+
+    private long jitter() {
+        long j = props.getJitterMs();
+        return j <= 0 ? 0 : ThreadLocalRandom.current().nextLong(-j, j + 1);
+    }
+
+    // ==============================
+    // prefetch
+    // ==============================
+
+    private void runAll(String reason) {
+        if (!running.compareAndSet(false, true)) {
+            log.info("[WEATHER][PREFETCH] skip (이전 실행 진행 중) reason={}", reason);
+            return;
+        }
+        long start = System.currentTimeMillis();
+        try {
+            List<CompletableFuture<Boolean>> futures = targets().stream()
+                    .map(r -> CompletableFuture.supplyAsync(() -> prefetchRegion(r), prefetchExecutor))
+                    .toList();
+
+            long ok = futures.stream().map(CompletableFuture::join).filter(Boolean::booleanValue).count();
+            log.info("[WEATHER][PREFETCH] done reason={}, ok={}/{}, elapsedMs={}",
+                    reason, ok, futures.size(), System.currentTimeMillis() - start);
+        } catch (RuntimeException e) {
+            log.warn("[WEATHER][PREFETCH] failed reason={}", reason, e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private boolean prefetchRegion(WeatherPrefetchProperties.Region r) {
+        int maxAttempts = Math.max(1, props.getMaxAttempts());
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            try {
+                weatherService.getWeeklyWeather(r.getLat(), r.getLon(), r.getName());
+                return true;
+            } catch (RuntimeException e) {
+                log.warn("[WEATHER][PREFETCH] region={} attempt={}/{} 실패: {}",
+                        r.getName(), attempt, maxAttempts, e.getMessage());
+                if (attempt == maxAttempts) break;
+
+                long backoff = props.getBackoffMs() * (1L << (attempt - 1));
+                try {
+                    Thread.sleep(backoff + ThreadLocalRandom.current().nextLong(backoff / 2 + 1));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private List<WeatherPrefetchProperties.Region> targets() {
+        if (!props.getRegions().isEmpty()) return props.getRegions();
+
+        WeatherPrefetchProperties.Region def = new WeatherPrefetchProperties.Region();
+        def.setName(defaultLocation.getRegion());
+        def.setLat(defaultLocation.getLat());
+        def.setLon(defaultLocation.getLon());
+        return List.of(def);
+    }
+}
@@ -4,6 +4,7 @@ package com.team.backend.service.weather;
 import com.team.backend.api.dto.weather.DailyWeatherResponseDto;
 import com.team.backend.api.dto.weather.OpenWeatherForecastDto;
 import com.team.backend.api.dto.weather.WeeklyWeatherResponseDto;
+import com.team.backend.config.CacheNames;
 import com.team.backend.domain.DailyWeather;
 import com.team.backend.repository.weather.DailyWeatherRepository;
 import io.github.cdimascio.dotenv.Dotenv;
@@ -14,7 +15,12 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
@@ -36,6 +42,9 @@ public class WeatherService {
     private final RestTemplate restTemplate;
     private final DailyWeatherRepository dailyWeatherRepository;
     private final OpenWeatherDailyAggregator aggregator;
+    private final WeatherSnapshotStore snapshotStore;
+    private final TransactionTemplate transactionTemplate;
+    private final WeatherFetchCoalescer fetchCoalescer;
 
     @Value("${weather.api.url}")
     private String weatherApiUrl;
@@ -44,20 +53,38 @@ public class WeatherService {
     // ==============================
 
     /**
-     * (1) 오늘 날씨: DB 우선, 없으면 weekly fetch로 채움
-     * - 내부에서 저장(upsert)까지 발생할 수 있으므로 readOnly 금지
+     * (1) 오늘 날씨: in-memory 스냅샷 우선 → DB → 없으면 weekly fetch로 채움
+     * - 스냅샷 hit면 트랜잭션/커넥션 없이 반환 (추천 hot path)
+     * - 트랜잭션을 잡은 채로 fetch를 기다리지 않도록 NOT_SUPPORTED (조회/저장은 각자 짧은 트랜잭션)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public DailyWeatherResponseDto getTodaySmart(double lat, double lon, String region) {
         LocalDate today = LocalDate.now(KST_ZONE);
 
+        DailyWeatherResponseDto cached = snapshotStore.get(region, today);
+        if (cached != null) {
+            return cached;
+        }
+
         Optional<DailyWeather> todayOpt = dailyWeatherRepository.findByRegionAndDate(region, today);
         if (todayOpt.isPresent()) {
+            // 재시작 직후 등 스냅샷이 비어있는 경우 → DB 기준 주간 데이터로 채움
+            LocalDate end = today.plusDays(DEFAULT_DAYS - 1);
+            snapshotStore.putAll(region, dailyWeatherRepository
+                    .findAllByRegionAndDateBetweenOrderByDateAsc(region, today, end).stream()
+                    .map(DailyWeatherResponseDto::from)
+                    .toList());
             return DailyWeatherResponseDto.from(todayOpt.get());
         }
 
         log.info("⚠️ today({}) 데이터 없음 → weekly fetch 시도. region={}", today, region);
         fetchWeeklyIfNeeded(lat, lon, region);
 
+        DailyWeatherResponseDto fetched = snapshotStore.get(region, today);
+        if (fetched != null) {
+            return fetched;
+        }
+
         return dailyWeatherRepository.findByRegionAndDate(region, today)
                 .map(DailyWeatherResponseDto::from)
                 .orElseGet(() -> {
@@ -93,7 +120,8 @@ public class WeatherService {
     /**
      * (3) 주간 fetch(필요 시): DB 부족하면 외부 호출 + 저장
      */
-    @Cacheable(value = "weeklyWeather", key = "#region")
+    @Cacheable(value = CacheNames.WEEKLY_WEATHER, key = "#region")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public WeeklyWeatherResponseDto fetchWeeklyIfNeeded(double lat, double lon, String region) {
         LocalDate today = LocalDate.now(KST_ZONE);
         LocalDate end = today.plusDays(DEFAULT_DAYS - 1);
@@ -110,18 +138,33 @@ public class WeatherService {
 
     /**
      * (4) 주간 force fetch: 무조건 외부 호출 + upsert
+     * - region 단위 single-flight: 동시에 들어온 호출은 OpenWeather 1회 + upsert 1회를 공유
+     * - OpenWeather 호출/집계는 트랜잭션 밖 (느린 업스트림 동안 DB 커넥션을 잡지 않음)
+     * - upsert+재조회만 별도 트랜잭션에서 커밋까지 끝낸 뒤 대기자에게 결과를 넘긴다
      */
-    @CacheEvict(value = "weeklyWeather", key = "#region")
+    @CacheEvict(value = CacheNames.WEEKLY_WEATHER, key = "#region")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public WeeklyWeatherResponseDto getWeeklyWeather(double lat, double lon, String region) {
+        return fetchCoalescer.fetch(region, () -> {
+            List<DailyWeather> entities = fetchWeekly(lat, lon, region);
+
+            TransactionTemplate tx = new TransactionTemplate(transactionTemplate.getTransactionManager());
+            tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+            return tx.execute(status -> {
+                upsertDailyWeathers(entities);
+                return getWeeklyWeatherFromDb(region);
+            });
+        });
+    }
+
+    private List<DailyWeather> fetchWeekly(double lat, double lon, String region) {
         OpenWeatherForecastDto forecast = callOpenWeatherForecast(lat, lon);
 
         List<DailyWeather> entities = aggregator.aggregate(region, forecast, DEFAULT_DAYS);
         if (entities.isEmpty()) {
             throw new IllegalStateException("OpenWeather forecast에서 일별 데이터를 만들 수 없습니다.");
         }
-
-        upsertDailyWeathers(entities);
-        return getWeeklyWeatherFromDb(region);
+        return entities;
     }
 
     // ==============================
@@ -251,5 +294,20 @@ public class WeatherService {
 
     // ✅ 4) saveAll 한 번
     dailyWeatherRepository.saveAll(toSave);
+
+    // ✅ 5) 커밋 후 in-memory 스냅샷 갱신 (롤백된 값이 노출되지 않도록)
+    List<DailyWeatherResponseDto> snapshot = toSave.stream()
+            .map(DailyWeatherResponseDto::from)
+            .toList();
+    if (TransactionSynchronizationManager.isSynchronizationActive()) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                snapshotStore.putAll(region, snapshot);
+            }
+        });
+    } else {
+        snapshotStore.putAll(region, snapshot);
+    }
 }
 }
@@ -0,0 +1,86 @@
+// src/main/java/com/team/backend/service/weather/WeatherSnapshotStore.java
+package com.team.backend.service.weather;
+
+import com.team.backend.api.dto.weather.DailyWeatherResponseDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * region/date 기준 in-memory 날씨 스냅샷
+ * - 읽기: AtomicReference 1회 read (lock-free)
+ * - 쓰기: copy-on-write 후 CAS swap (upsert 시에만 발생 → 하루 몇 번 수준)
+ * - KST 날짜가 바뀌면 오늘 이전 날짜는 버린다
+ */
+@Slf4j
+@Component
+public class WeatherSnapshotStore {
+
+    private static final ZoneId KST_ZONE = ZoneId.of("Asia/Seoul");
+
+    private record Snapshot(LocalDate kstDate, Map<String, Map<LocalDate, DailyWeatherResponseDto>> byRegion) {
+    }
+
+    private final AtomicReference<Snapshot> ref =
+            new AtomicReference<>(new Snapshot(LocalDate.now(KST_ZONE), Map.of()));
+
+    public DailyWeatherResponseDto get(String region, LocalDate date) {
+        Snapshot snap = current();
+        Map<LocalDate, DailyWeatherResponseDto> days = snap.byRegion().get(region);
+        return days == null ? null : days.get(date);
+    }
+
+    public void putAll(String region, List<DailyWeatherResponseDto> days) {
+        if (region == null || days == null || days.isEmpty()) return;
+
+        while (true) {
+            Snapshot prev = current();
+            LocalDate today = prev.kstDate();
+
+            Map<LocalDate, DailyWeatherResponseDto> merged =
+                    new HashMap<>(prev.byRegion().getOrDefault(region, Map.of()));
+            for (DailyWeatherResponseDto d : days) {
+                if (d.getDate() != null && !d.getDate().isBefore(today)) merged.put(d.getDate(), d);
+            }
+
+            Map<String, Map<LocalDate, DailyWeatherResponseDto>> byRegion = new HashMap<>(prev.byRegion());
+            byRegion.put(region, Map.copyOf(merged));
+
+            if (ref.compareAndSet(prev, new Snapshot(today, Map.copyOf(byRegion)))) {
+                log.debug("[WEATHER][SNAPSHOT] refreshed region={}, days={}", region, merged.size());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 현재 스냅샷. KST 날짜가 넘어갔으면 지난 날짜를 걷어낸 스냅샷으로 교체
+     */
+    private Snapshot current() {
+        Snapshot snap = ref.get();
+        LocalDate today = LocalDate.now(KST_ZONE);
+        if (snap.kstDate().equals(today)) return snap;
+
+        Map<String, Map<LocalDate, DailyWeatherResponseDto>> pruned = new HashMap<>();
+        snap.byRegion().forEach((region, days) -> {
+            Map<LocalDate, DailyWeatherResponseDto> kept = new HashMap<>();
+            days.forEach((date, d) -> {
+                if (!date.isBefore(today)) kept.put(date, d);
+            });
+            if (!kept.isEmpty()) pruned.put(region, Map.copyOf(kept));
+        });
+
+        Snapshot rolled = new Snapshot(today, Map.copyOf(pruned));
+        if (ref.compareAndSet(snap, rolled)) {
+            log.info("[WEATHER][SNAPSHOT] KST day rollover {} -> {}", snap.kstDate(), today);
+            return rolled;
+        }
+        return ref.get();
+    }
+}
@@ -0,0 +1,31 @@
+-- V045__create_checklist_daily_index.sql
+-- 목적:
+-- 1) (session_key, kst_date) -> recommendation_id 조회 전용 테이블 (오늘 체크리스트 제출 여부 O(1) 조회)
+-- 2) 기존 recommendation_event_log의 CHECKLIST_SUBMITTED로 backfill (중복 실행 안전)
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS public.checklist_daily_index (
+  session_key        varchar(64) NOT NULL,
+  kst_date           date        NOT NULL,
+  recommendation_id  uuid        NOT NULL,
+  created_at         timestamptz NOT NULL DEFAULT now(),
+
+  PRIMARY KEY (session_key, kst_date)
+);
+
+-- 같은 날 여러 번 제출된 과거 데이터는 가장 마지막 recommendation_id 기준
+INSERT INTO public.checklist_daily_index (session_key, kst_date, recommendation_id, created_at)
+SELECT DISTINCT ON (l.session_key, (l.created_at AT TIME ZONE 'Asia/Seoul')::date)
+       l.session_key,
+       (l.created_at AT TIME ZONE 'Asia/Seoul')::date,
+       l.recommendation_id,
+       l.created_at
+  FROM public.recommendation_event_log l
+ WHERE l.event_type = 'CHECKLIST_SUBMITTED'
+   AND l.session_key IS NOT NULL
+   AND l.recommendation_id IS NOT NULL
+ ORDER BY l.session_key, (l.created_at AT TIME ZONE 'Asia/Seoul')::date, l.created_at DESC, l.id DESC
+ON CONFLICT (session_key, kst_date) DO NOTHING;
+
+COMMIT;
@@ -0,0 +1,42 @@
+-- V046__create_admin_log_rollup.sql
+-- 목적:
+-- 1) admin overview용 KST 일 단위 rollup (raw 로그 재스캔 대신 rollup + 당일 tail만 조회)
+-- 2) rolled_until(exclusive) watermark: 이 날짜 이전은 rollup이 정본
+-- 데이터 채우기는 DashboardRollupService(스케줄러)가 담당
+
+BEGIN;
+
+-- source: SESSION(session_log) / CLICK(item_click_log) / RECO(recommendation_event_log)
+CREATE TABLE IF NOT EXISTS public.admin_rollup_daily_event (
+  kst_date     date        NOT NULL,
+  source       varchar(16) NOT NULL,
+  event_type   varchar(64) NOT NULL,
+  event_count  bigint      NOT NULL,
+
+  PRIMARY KEY (kst_date, source, event_type)
+);
+
+-- 일자별 활동 유저 키 (COALESCE(user_id::text, session_key)) + START 횟수 → unique / returning 계산용
+CREATE TABLE IF NOT EXISTS public.admin_rollup_daily_user (
+  kst_date     date    NOT NULL,
+  user_key     text    NOT NULL,
+  start_count  integer NOT NULL,
+
+  PRIMARY KEY (kst_date, user_key)
+);
+
+CREATE TABLE IF NOT EXISTS public.admin_rollup_daily_item_click (
+  kst_date     date   NOT NULL,
+  clothing_id  bigint NOT NULL,
+  click_count  bigint NOT NULL,
+
+  PRIMARY KEY (kst_date, clothing_id)
+);
+
+CREATE TABLE IF NOT EXISTS public.admin_rollup_watermark (
+  name          varchar(32) PRIMARY KEY,
+  rolled_until  date        NOT NULL,
+  updated_at    timestamptz NOT NULL DEFAULT now()
+);
+
+COMMIT;
@@ -0,0 +1,17 @@
+-- V047__create_admin_rollup_daily_user_hll.sql
+-- 목적:
+-- 1) KST 일자별 distinct user(COALESCE(user_id::text, session_key)) HyperLogLog 스케치
+-- 2) 임의 기간 unique users = 일자 스케치 merge (approx 모드)
+-- sketch 포맷: [precision 1byte][registers 2^precision bytes] (HyperLogLog.toBytes)
+-- 데이터 채우기는 DashboardRollupService(rollup 잡)가 담당
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS public.admin_rollup_daily_user_hll (
+  kst_date    date        PRIMARY KEY,
+  precision   smallint    NOT NULL,
+  sketch      bytea       NOT NULL,
+  updated_at  timestamptz NOT NULL DEFAULT now()
+);
+
+COMMIT;
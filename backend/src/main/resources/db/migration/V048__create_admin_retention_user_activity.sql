@@ -0,0 +1,38 @@
+-- V048__create_admin_retention_user_activity.sql
+-- 목적:
+-- 1) user_key(COALESCE(user_id::text, session_key))별 최초 방문일 + 일자별 활동 bitmap
+--    activity bit i = (first_seen + i)일에 활동 (bit string, 왼쪽이 0번)
+-- 2) D1/D7/D30 retention을 session_log self-join 없이 1회 스캔으로 계산
+-- 3) 이미 쌓인 admin_rollup_daily_user로 backfill (중복 실행 안전)
+-- 이후 갱신은 DashboardRollupService(rollup 잡)가 일자 단위로 담당
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS public.admin_retention_user_activity (
+  user_key    text         PRIMARY KEY,
+  first_seen  date         NOT NULL,
+  last_seen   date         NOT NULL,
+  activity    bit varying  NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_admin_retention_user_activity_last_seen
+  ON public.admin_retention_user_activity (last_seen);
+
+WITH bounds AS (
+  SELECT user_key, MIN(kst_date) AS first_seen, MAX(kst_date) AS last_seen
+    FROM public.admin_rollup_daily_user
+   GROUP BY user_key
+)
+INSERT INTO public.admin_retention_user_activity (user_key, first_seen, last_seen, activity)
+SELECT b.user_key,
+       b.first_seen,
+       b.last_seen,
+       (SELECT string_agg(CASE WHEN d.user_key IS NULL THEN '0' ELSE '1' END, '' ORDER BY g.day)
+          FROM generate_series(b.first_seen, b.last_seen, interval '1 day') AS g(day)
+          LEFT JOIN public.admin_rollup_daily_user d
+            ON d.user_key = b.user_key
+           AND d.kst_date = g.day::date)::varbit
+  FROM bounds b
+ON CONFLICT (user_key) DO NOTHING;
+
+COMMIT;
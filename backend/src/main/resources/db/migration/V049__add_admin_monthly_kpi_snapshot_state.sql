@@ -0,0 +1,16 @@
+-- V049__add_admin_monthly_kpi_snapshot_state.sql
+-- 목적:
+-- 1) admin_monthly_kpi를 "조회 시 재계산 캐시" → "스냅샷"으로 전환
+--    is_final = true 인 월(마감 + grace 지난 월)은 다시 계산하지 않음
+-- 2) 당월만 DashboardMonthlySnapshotService가 staleness 기준으로 주기 갱신
+-- 3) 기존 row는 전부 미확정(false) → 다음 스냅샷 잡에서 1회 재계산 후 확정
+
+BEGIN;
+
+ALTER TABLE public.admin_monthly_kpi
+  ADD COLUMN IF NOT EXISTS is_final boolean NOT NULL DEFAULT false;
+
+ALTER TABLE public.admin_monthly_kpi
+  ADD COLUMN IF NOT EXISTS finalized_at timestamptz NULL;
+
+COMMIT;
@@ -0,0 +1,131 @@
+package com.team.backend.common.bitmap;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdBitmapTest {
+
+    private static final long CHUNK = 1L << 16;
+
+    @Test
+    void emptyInputsReturnEmpty() {
+        assertThat(IdBitmap.of(null)).isSameAs(IdBitmap.EMPTY);
+        assertThat(IdBitmap.of(List.of())).isSameAs(IdBitmap.EMPTY);
+        assertThat(IdBitmap.of(Arrays.asList(null, -1L))).isSameAs(IdBitmap.EMPTY);
+        assertThat(IdBitmap.EMPTY.contains(0)).isFalse();
+        assertThat(IdBitmap.EMPTY.isEmpty()).isTrue();
+    }
+
+    @Test
+    void arrayContainerAtLimit() {
+        // chunk 하나에 4096개 → char[] container 최대
+        List<Long> ids = range(0, 4096 * 2, 2);
+        IdBitmap bitmap = IdBitmap.of(ids);
+
+        assertMatches(bitmap, new HashSet<>(ids), 0, 4096 * 2 + 10);
+        assertThat(bitmap.cardinality()).isEqualTo(4096);
+    }
+
+    @Test
+    void bitsetContainerAboveLimit() {
+        // chunk 하나에 4097개 → long[] bitset container
+        List<Long> ids = range(0, 4097 * 2, 2);
+        IdBitmap bitmap = IdBitmap.of(ids);
+
+        assertMatches(bitmap, new HashSet<>(ids), 0, 4097 * 2 + 10);
+        assertThat(bitmap.cardinality()).isEqualTo(4097);
+    }
+
+    @Test
+    void bitsetCoversWordAndChunkEdges() {
+        List<Long> ids = new ArrayList<>(range(0, 5000, 1));
+        ids.addAll(List.of(63L, 64L, CHUNK - 1));
+        Set<Long> expected = new HashSet<>(ids);
+        IdBitmap bitmap = IdBitmap.of(ids);
+
+        assertMatches(bitmap, expected, 0, 6000);
+        assertThat(bitmap.contains(CHUNK - 1)).isTrue();
+        assertThat(bitmap.contains(CHUNK)).isFalse();
+        assertThat(bitmap.contains(CHUNK - 2)).isFalse();
+    }
+
+    @Test
+    void idsAcrossChunksMixArrayAndBitset() {
+        Set<Long> expected = new HashSet<>();
+        expected.addAll(range(0, 10, 1));                         // chunk 0: array
+        expected.addAll(range(CHUNK, CHUNK + 5000, 1));           // chunk 1: bitset
+        expected.addAll(List.of(3 * CHUNK - 1, 3 * CHUNK));       // chunk 2/3 경계
+        expected.add(1L << 40);                                   // 먼 chunk
+        IdBitmap bitmap = IdBitmap.of(expected);
+
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+        assertMatches(bitmap, expected, 0, 3 * CHUNK + 10);
+        assertThat(bitmap.contains(1L << 40)).isTrue();
+        assertThat(bitmap.contains((1L << 40) + 1)).isFalse();
+        assertThat(bitmap.contains(-1)).isFalse();
+    }
+
+    @Test
+    void randomIdsMatchHashSet() {
+        Random random = new Random(42);
+        Set<Long> expected = new HashSet<>();
+        for (int i = 0; i < 20_000; i++) expected.add((long) random.nextInt(4 * (int) CHUNK));
+        IdBitmap bitmap = IdBitmap.of(expected);
+
+        assertThat(bitmap.cardinality()).isEqualTo(expected.size());
+        assertMatches(bitmap, expected, 0, 4 * CHUNK);
+    }
+
+    @Test
+    void duplicatesAndOrderDoNotAffectEquality() {
+        List<Long> ids = new ArrayList<>(range(0, 5000, 1));
+        ids.addAll(range(CHUNK, CHUNK + 100, 3));
+        List<Long> shuffled = new ArrayList<>(ids);
+        Collections.shuffle(shuffled, new Random(7));
+        shuffled.addAll(ids.subList(0, 100));
+
+        IdBitmap a = IdBitmap.of(ids);
+        IdBitmap b = IdBitmap.of(shuffled);
+
+        assertThat(a).isEqualTo(b);
+        assertThat(a.hashCode()).isEqualTo(b.hashCode());
+        assertThat(b.cardinality()).isEqualTo(ids.size());
+    }
+
+    @Test
+    void differentSetsAreNotEqual() {
+        // 같은 cardinality / 같은 chunk, 원소 1개만 다름 (array / bitset 각각)
+        assertThat(IdBitmap.of(List.of(1L, 2L, 3L))).isNotEqualTo(IdBitmap.of(List.of(1L, 2L, 4L)));
+
+        List<Long> base = range(0, 5000, 1);
+        List<Long> moved = new ArrayList<>(base);
+        moved.set(moved.size() - 1, 6000L);
+        assertThat(IdBitmap.of(base)).isNotEqualTo(IdBitmap.of(moved));
+
+        // 같은 하위 16비트, 다른 chunk
+        assertThat(IdBitmap.of(List.of(5L))).isNotEqualTo(IdBitmap.of(List.of(CHUNK + 5)));
+    }
+
+    private static void assertMatches(IdBitmap bitmap, Set<Long> expected, long from, long toExclusive) {
+        for (long id = from; id < toExclusive; id++) {
+            if (bitmap.contains(id) != expected.contains(id)) {
+                throw new AssertionError("contains mismatch id=" + id + " expected=" + expected.contains(id));
+            }
+        }
+    }
+
+    private static List<Long> range(long from, long toExclusive, long step) {
+        List<Long> out = new ArrayList<>();
+        for (long v = from; v < toExclusive; v += step) out.add(v);
+        return out;
+    }
+}
@@ -0,0 +1,90 @@
+package com.team.backend.common.sketch;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.offset;
+
+class HyperLogLogTest {
+
+    // p=14 표준오차 ≈ 0.81% → 4σ 여유
+    private static final double P14_TOLERANCE = 0.033;
+
+    @Test
+    void emptySketchEstimatesZero() {
+        assertThat(new HyperLogLog(14).estimate()).isZero();
+    }
+
+    @Test
+    void estimateStaysWithinErrorBound() {
+        for (int n : new int[]{100, 10_000, 200_000}) {
+            HyperLogLog hll = new HyperLogLog(14);
+            for (int i = 0; i < n; i++) hll.add("user-" + i);
+
+            assertThat((double) hll.estimate())
+                    .as("n=%d", n)
+                    .isCloseTo(n, offset(Math.max(1.0, n * P14_TOLERANCE)));
+        }
+    }
+
+    @Test
+    void duplicatesAndBlankKeysAreIgnored() {
+        HyperLogLog hll = new HyperLogLog(14);
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 1_000; i++) hll.add("user-" + i);
+        }
+        hll.add(null);
+        hll.add("");
+
+        assertThat((double) hll.estimate()).isCloseTo(1_000, offset(1_000 * P14_TOLERANCE));
+    }
+
+    @Test
+    void mergeEqualsSketchOfUnion() {
+        HyperLogLog a = new HyperLogLog(14);
+        HyperLogLog b = new HyperLogLog(14);
+        HyperLogLog union = new HyperLogLog(14);
+        // [0, 60000) ∪ [40000, 100000) → 100000 distinct, 20000 겹침
+        for (int i = 0; i < 60_000; i++) {
+            a.add("user-" + i);
+            union.add("user-" + i);
+        }
+        for (int i = 40_000; i < 100_000; i++) {
+            b.add("user-" + i);
+            union.add("user-" + i);
+        }
+
+        a.merge(b);
+
+        assertThat(a.toBytes()).isEqualTo(union.toBytes());
+        assertThat((double) a.estimate()).isCloseTo(100_000, offset(100_000 * P14_TOLERANCE));
+    }
+
+    @Test
+    void mergeRejectsDifferentPrecision() {
+        assertThatThrownBy(() -> new HyperLogLog(14).merge(new HyperLogLog(12)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        HyperLogLog hll = new HyperLogLog(12);
+        for (int i = 0; i < 5_000; i++) hll.add("session-" + i);
+
+        byte[] bytes = hll.toBytes();
+        HyperLogLog restored = HyperLogLog.fromBytes(bytes);
+
+        assertThat(HyperLogLog.precisionOf(bytes)).isEqualTo(12);
+        assertThat(restored.precision()).isEqualTo(12);
+        assertThat(restored.estimate()).isEqualTo(hll.estimate());
+        assertThat(restored.toBytes()).isEqualTo(bytes);
+    }
+
+    @Test
+    void fromBytesRejectsMalformedInput() {
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[0])).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HyperLogLog.fromBytes(new byte[]{14, 0, 0})).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new HyperLogLog(HyperLogLog.MAX_PRECISION + 1)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
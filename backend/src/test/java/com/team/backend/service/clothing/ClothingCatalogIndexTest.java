@@ -0,0 +1,218 @@
+package com.team.backend.service.clothing;
+
+import com.team.backend.api.dto.clothingItem.ClothingItemRequestDto;
+import com.team.backend.common.bitmap.IdBitmap;
+import com.team.backend.domain.enums.ClothingCategory;
+import com.team.backend.domain.enums.ThicknessLevel;
+import com.team.backend.repository.clothing.ClothingCatalogJdbcRepository;
+import com.team.backend.repository.clothing.ClothingCatalogJdbcRepository.CatalogRow;
+import com.team.backend.repository.clothing.ClothingItemRepository;
+import com.team.backend.service.closet.ClosetMembershipIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 인덱스 검색 결과가 ClothingItemRepositoryImpl.searchNative(SQL)와 같은 순서/필터인지 확인
+ * - 기대값은 SQL 조건/ORDER BY를 그대로 옮긴 reference 구현으로 계산
+ */
+class ClothingCatalogIndexTest {
+
+    private static final long CLOSET_ID = 10L;
+    private static final List<Integer> LIMITS = List.of(1, 7, 1_000);
+    private static final List<String> SORTS = Arrays.asList(null, "popular", "latest", "LATEST");
+
+    private List<CatalogRow> rows;
+    private Set<Long> closetMembers;
+    private ClothingItemRepository clothingItemRepository;
+    private ClothingCatalogIndex index;
+
+    @BeforeEach
+    void setUp() {
+        // selected_count / created_at 동점을 일부러 많이 만들어 id DESC tie-break까지 확인
+        Random random = new Random(20261017L);
+        rows = new ArrayList<>();
+        for (long id = 1; id <= 400; id++) {
+            rows.add(new CatalogRow(
+                    id,
+                    1_000 + id,
+                    ClothingCategory.values()[random.nextInt(ClothingCategory.values().length)],
+                    ThicknessLevel.values()[random.nextInt(ThicknessLevel.values().length)],
+                    random.nextInt(5),
+                    1_700_000_000_000L + random.nextInt(20) * 1_000L
+            ));
+        }
+        closetMembers = rows.stream().map(CatalogRow::id).filter(id -> id % 3 == 0).collect(Collectors.toSet());
+
+        ClothingCatalogJdbcRepository catalogRepo = mock(ClothingCatalogJdbcRepository.class);
+        doAnswer(inv -> {
+            Consumer<CatalogRow> sink = inv.getArgument(0);
+            rows.forEach(sink);
+            return null;
+        }).when(catalogRepo).streamAll(any());
+
+        ClosetMembershipIndex closetMembershipIndex = mock(ClosetMembershipIndex.class);
+        when(closetMembershipIndex.membersOf(CLOSET_ID)).thenReturn(IdBitmap.of(closetMembers));
+
+        clothingItemRepository = mock(ClothingItemRepository.class);
+
+        // write-behind 비활성 → 미반영분 0 (SQL과 같은 selected_count 기준)
+        SelectedCountBuffer buffer = new SelectedCountBuffer(new SimpleMeterRegistry(), false);
+
+        index = new ClothingCatalogIndex(
+                catalogRepo, clothingItemRepository, closetMembershipIndex, buffer, mock(CacheManager.class), true);
+        index.reload();
+    }
+
+    @Test
+    void globalSearchMatchesSearchNative() {
+        for (ClothingItemRequestDto.SearchCondition cond : conditions()) {
+            for (int limit : LIMITS) {
+                assertThat(index.findCandidateIds(null, cond, limit))
+                        .as(describe(cond, limit))
+                        .containsExactlyElementsOf(reference(cond, cond.getCategory(), null, limit));
+            }
+        }
+        verifyNoInteractions(clothingItemRepository);
+    }
+
+    @Test
+    void closetSearchMatchesSearchNative() {
+        for (ClothingItemRequestDto.SearchCondition cond : conditions()) {
+            for (int limit : LIMITS) {
+                assertThat(index.findCandidateIds(CLOSET_ID, cond, limit))
+                        .as(describe(cond, limit))
+                        .containsExactlyElementsOf(reference(cond, cond.getCategory(), closetMembers, limit));
+            }
+        }
+        verifyNoInteractions(clothingItemRepository);
+    }
+
+    @Test
+    void perCategorySearchMatchesRowNumberQuery() {
+        List<ClothingCategory> categories = List.of(ClothingCategory.values());
+        for (ClothingItemRequestDto.SearchCondition cond : conditions()) {
+            for (int perCategory : LIMITS) {
+                for (Long closetId : Arrays.asList(null, CLOSET_ID)) {
+                    Set<Long> members = (closetId == null) ? null : closetMembers;
+                    Map<ClothingCategory, List<Long>> actual =
+                            index.findCandidateIdsByCategory(closetId, categories, cond, perCategory);
+
+                    for (ClothingCategory c : categories) {
+                        // cond.category는 무시하고 partition category 기준
+                        assertThat(actual.get(c))
+                                .as("%s closetId=%s category=%s", describe(cond, perCategory), closetId, c)
+                                .containsExactlyElementsOf(reference(cond, c, members, perCategory));
+                    }
+                }
+            }
+        }
+        verifyNoInteractions(clothingItemRepository);
+    }
+
+    @Test
+    void clothingIdLookupAppliesRemainingFilters() {
+        CatalogRow target = rows.stream().filter(r -> closetMembers.contains(r.id())).findFirst().orElseThrow();
+        CatalogRow outsider = rows.stream().filter(r -> !closetMembers.contains(r.id())).findFirst().orElseThrow();
+
+        List<ClothingItemRequestDto.SearchCondition> conds = new ArrayList<>();
+        for (Long clothingId : List.of(target.clothingId(), outsider.clothingId(), -1L)) {
+            for (ClothingCategory category : Arrays.asList(null, target.category(), otherThan(target.category()))) {
+                for (ThicknessLevel thickness : Arrays.asList(null, target.thicknessLevel(), otherThan(target.thicknessLevel()))) {
+                    conds.add(ClothingItemRequestDto.SearchCondition.builder()
+                            .clothingId(clothingId).category(category).thicknessLevel(thickness).build());
+                }
+            }
+        }
+
+        for (ClothingItemRequestDto.SearchCondition cond : conds) {
+            assertThat(index.findCandidateIds(null, cond, 5))
+                    .as(describe(cond, 5))
+                    .containsExactlyElementsOf(reference(cond, cond.getCategory(), null, 5));
+            assertThat(index.findCandidateIds(CLOSET_ID, cond, 5))
+                    .as("closet " + describe(cond, 5))
+                    .containsExactlyElementsOf(reference(cond, cond.getCategory(), closetMembers, 5));
+        }
+    }
+
+    @Test
+    void nonPositiveLimitReturnsEmpty() {
+        assertThat(index.findCandidateIds(null, null, 0)).isEmpty();
+        assertThat(index.findCandidateIds(CLOSET_ID, null, -1)).isEmpty();
+    }
+
+    // =========================
+    // reference (searchNative SQL 그대로)
+    // =========================
+
+    private List<Long> reference(
+            ClothingItemRequestDto.SearchCondition cond,
+            ClothingCategory category,
+            Set<Long> members,
+            int limit
+    ) {
+        boolean latest = cond != null && "latest".equalsIgnoreCase(cond.getSort());
+        Comparator<CatalogRow> orderBy = latest
+                ? Comparator.comparingLong(CatalogRow::createdAtEpochMs).reversed()
+                        .thenComparing(Comparator.comparingLong(CatalogRow::id).reversed())
+                : Comparator.comparingInt(CatalogRow::selectedCount).reversed()
+                        .thenComparing(Comparator.comparingLong(CatalogRow::id).reversed());
+
+        Stream<CatalogRow> s = rows.stream();
+        if (members != null) s = s.filter(r -> members.contains(r.id()));
+        if (cond != null && cond.getClothingId() != null) s = s.filter(r -> r.clothingId() == cond.getClothingId());
+        if (cond != null && cond.getThicknessLevel() != null) s = s.filter(r -> r.thicknessLevel() == cond.getThicknessLevel());
+        if (category != null) s = s.filter(r -> r.category() == category);
+
+        return s.sorted(orderBy).limit(Math.max(limit, 0)).map(CatalogRow::id).toList();
+    }
+
+    private static List<ClothingItemRequestDto.SearchCondition> conditions() {
+        List<ClothingItemRequestDto.SearchCondition> out = new ArrayList<>();
+        for (ClothingCategory category : withNull(ClothingCategory.values())) {
+            for (ThicknessLevel thickness : withNull(ThicknessLevel.values())) {
+                for (String sort : SORTS) {
+                    out.add(ClothingItemRequestDto.SearchCondition.builder()
+                            .category(category).thicknessLevel(thickness).sort(sort).build());
+                }
+            }
+        }
+        return out;
+    }
+
+    private static <T> List<T> withNull(T[] values) {
+        List<T> out = new ArrayList<>();
+        out.add(null);
+        out.addAll(List.of(values));
+        return out;
+    }
+
+    private static <E extends Enum<E>> E otherThan(E value) {
+        E[] all = value.getDeclaringClass().getEnumConstants();
+        return all[(value.ordinal() + 1) % all.length];
+    }
+
+    private static String describe(ClothingItemRequestDto.SearchCondition cond, int limit) {
+        return "category=%s thickness=%s sort=%s clothingId=%s limit=%d".formatted(
+                cond.getCategory(), cond.getThicknessLevel(), cond.getSort(), cond.getClothingId(), limit);
+    }
+}